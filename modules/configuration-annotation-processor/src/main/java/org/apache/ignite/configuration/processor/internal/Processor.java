@@ -27,11 +27,9 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.WildcardTypeName;
 import java.io.IOException;
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,6 +37,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.processing.AbstractProcessor;
@@ -52,18 +51,27 @@ import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.util.Elements;
+import org.apache.ignite.configuration.BooleanConfigurationValue;
+import org.apache.ignite.configuration.ConfigurationDiff;
 import org.apache.ignite.configuration.ConfigurationTree;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.IntConfigurationValue;
+import org.apache.ignite.configuration.LongConfigurationValue;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.NamedConfigValue;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.internal.BooleanDynamicProperty;
+import org.apache.ignite.configuration.internal.ChangeScope;
 import org.apache.ignite.configuration.internal.DynamicConfiguration;
 import org.apache.ignite.configuration.internal.DynamicProperty;
+import org.apache.ignite.configuration.internal.IntDynamicProperty;
+import org.apache.ignite.configuration.internal.LongDynamicProperty;
+import org.apache.ignite.configuration.internal.NamedList;
 import org.apache.ignite.configuration.internal.NamedListConfiguration;
-import org.apache.ignite.configuration.internal.selector.BaseSelectors;
 import org.apache.ignite.configuration.internal.selector.Selector;
+import org.apache.ignite.configuration.internal.selector.SelectorRegistry;
 import org.apache.ignite.configuration.internal.validation.MemberKey;
 import org.apache.ignite.configuration.processor.internal.pojo.ChangeClassGenerator;
 import org.apache.ignite.configuration.processor.internal.pojo.InitClassGenerator;
@@ -73,6 +81,7 @@ import org.apache.ignite.configuration.processor.internal.validation.ValidationG
 import static javax.lang.model.element.Modifier.ABSTRACT;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 
@@ -205,16 +214,16 @@ public class Processor extends AbstractProcessor {
                     // Create DynamicConfiguration (descendant) field
                     final FieldSpec nestedConfigField =
                         FieldSpec
-                            .builder(getMethodType, fieldName, Modifier.PRIVATE, FINAL)
+                            .builder(getMethodType, fieldName, Modifier.PRIVATE)
                             .build();
 
                     configurationClassBuilder.addField(nestedConfigField);
 
                     // Constructor statement
-                    constructorBodyBuilder.addStatement("add($L = new $T(qualifiedName, $S, false, configurator, this.root))", fieldName, getMethodType, fieldName);
+                    constructorBodyBuilder.addStatement("add($L = new $T(qualifiedName, $S, false, configurator))", fieldName, getMethodType, fieldName);
 
                     // Copy constructor statement
-                    copyConstructorBodyBuilder.addStatement("add($L = base.$L.copy(this.root))", fieldName, fieldName);
+                    copyConstructorBodyBuilder.addStatement("add($L = base.$L)", fieldName, fieldName);
                 }
 
                 final NamedConfigValue namedConfigAnnotation = field.getAnnotation(NamedConfigValue.class);
@@ -225,15 +234,14 @@ public class Processor extends AbstractProcessor {
                     final FieldSpec nestedConfigField = FieldSpec.builder(
                         getMethodType,
                         fieldName,
-                        Modifier.PRIVATE,
-                        FINAL
+                        Modifier.PRIVATE
                     ).build();
 
                     configurationClassBuilder.addField(nestedConfigField);
 
                     // Constructor statement
                     constructorBodyBuilder.addStatement(
-                        "add($L = new $T(qualifiedName, $S, configurator, this.root, (p, k) -> new $T(p, k, true, configurator, this.root)))",
+                        "add($L = new $T(qualifiedName, $S, configurator, (p, k) -> new $T(p, k, true, configurator)))",
                         fieldName,
                         getMethodType,
                         fieldName,
@@ -241,26 +249,48 @@ public class Processor extends AbstractProcessor {
                     );
 
                     // Copy constructor statement
-                    copyConstructorBodyBuilder.addStatement("add($L = base.$L.copy(this.root))", fieldName, fieldName);
+                    copyConstructorBodyBuilder.addStatement("add($L = base.$L)", fieldName, fieldName);
                 }
 
                 final Value valueAnnotation = field.getAnnotation(Value.class);
                 if (valueAnnotation != null) {
                     // Create value (DynamicProperty<>) field
-                    final FieldSpec generatedField = FieldSpec.builder(getMethodType, fieldName, Modifier.PRIVATE, FINAL).build();
+                    final FieldSpec generatedField = FieldSpec.builder(getMethodType, fieldName, Modifier.PRIVATE).build();
 
                     configurationClassBuilder.addField(generatedField);
 
-                    final CodeBlock validatorsBlock = ValidationGenerator.generateValidators(field);
+                    // Member key constant (like AUTO_ADJUST_ENABLED_KEY)
+                    final String constantName = fieldName.replaceAll("([a-z])([A-Z]+)", "$1_$2").toUpperCase();
 
-                    // Constructor statement
-                    constructorBodyBuilder.addStatement(
-                        "add($L = new $T(qualifiedName, $S, new $T($T.class, $S), this.configurator, this.root), $L)",
-                        fieldName, getMethodType, fieldName, MemberKey.class, configClass, fieldName, validatorsBlock
+                    final String keyName = constantName + "_KEY";
+
+                    configurationClassBuilder.addField(
+                        FieldSpec.builder(MemberKey.class, keyName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                            .initializer("new $T($T.class, $S)", MemberKey.class, configClass, fieldName)
+                            .build()
+                    );
+
+                    final boolean validated = ValidationGenerator.generateValidation(
+                        processingEnv.getTypeUtils(), configurationClassBuilder, field, getMethodType, constantName
                     );
 
+                    // Constructor statement
+                    if (!validated) {
+                        constructorBodyBuilder.addStatement(
+                            "add($L = new $T(qualifiedName, $S, $N, this.configurator))",
+                            fieldName, getMethodType, fieldName, keyName
+                        );
+                    }
+                    else {
+                        constructorBodyBuilder.addStatement(
+                            "add($L = new $T(qualifiedName, $S, $N, this.configurator, $T::$N), $N)",
+                            fieldName, getMethodType, fieldName, keyName, configClass,
+                            ValidationGenerator.methodName(fieldName), constantName + ValidationGenerator.DEPENDENCIES_SUFFIX
+                        );
+                    }
+
                     // Copy constructor statement
-                    copyConstructorBodyBuilder.addStatement("add($L = base.$L.copy(this.root))", fieldName, fieldName);
+                    copyConstructorBodyBuilder.addStatement("add($L = base.$L)", fieldName, fieldName);
                 }
 
                 configDesc.getFields().add(new ConfigurationElement(getMethodType, fieldName, viewClassType, initClassType, changeClassType));
@@ -279,6 +309,18 @@ public class Processor extends AbstractProcessor {
             // Create copy method for configuration class
             createCopyMethod(configClass, configurationClassBuilder);
 
+            // Root gets selectors from the Selectors class of its package
+            if (isRoot) {
+                configurationClassBuilder.addMethod(
+                    MethodSpec.methodBuilder("registerSelectors")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(SelectorRegistry.class, "registry")
+                        .addStatement("$T.$L(registry)", ClassName.get(packageName, "Selectors"), registerMethodName(configName))
+                        .build()
+                );
+            }
+
             // Write configuration interface
             JavaFile interfaceFile = JavaFile.builder(packageName, configurationInterfaceBuilder.build()).build();
 
@@ -305,7 +347,7 @@ public class Processor extends AbstractProcessor {
             .collect(Collectors.toList());
 
         // Generate Keys class
-        createKeysClass(packageForUtil, flattenConfig);
+        createKeysClass(packageForUtil, flattenConfig, roots, props);
 
         // Generate Selectors class
         createSelectorsClass(packageForUtil, flattenConfig);
@@ -335,9 +377,13 @@ public class Processor extends AbstractProcessor {
             .build();
         configurationInterfaceBuilder.addMethod(interfaceGetMethod);
 
+        // Members shared with committed configuration are copied on access from a node of an active change
         MethodSpec getMethod = MethodSpec.methodBuilder(fieldName)
             .addModifiers(PUBLIC, FINAL)
             .returns(types.getGetMethodType())
+            .beginControlFlow("if (isWritable())")
+            .addStatement("$L = writable($L)", fieldName, fieldName)
+            .endControlFlow()
             .addStatement("return $L", fieldName)
             .build();
         configurationClassBuilder.addMethod(getMethod);
@@ -405,6 +451,20 @@ public class Processor extends AbstractProcessor {
 
             getMethodType = ParameterizedTypeName.get(dynPropClass, genericType);
             interfaceGetMethodType = ParameterizedTypeName.get(confValueClass, genericType);
+
+            // Primitive values are held by specialized properties that can be read without unboxing
+            if (TypeName.INT.equals(baseType)) {
+                getMethodType = ClassName.get(IntDynamicProperty.class);
+                interfaceGetMethodType = ClassName.get(IntConfigurationValue.class);
+            }
+            else if (TypeName.LONG.equals(baseType)) {
+                getMethodType = ClassName.get(LongDynamicProperty.class);
+                interfaceGetMethodType = ClassName.get(LongConfigurationValue.class);
+            }
+            else if (TypeName.BOOLEAN.equals(baseType)) {
+                getMethodType = ClassName.get(BooleanDynamicProperty.class);
+                interfaceGetMethodType = ClassName.get(BooleanConfigurationValue.class);
+            }
         }
 
         return new ConfigurationFieldTypes(getMethodType, unwrappedType, viewClassType, initClassType, changeClassType, interfaceGetMethodType);
@@ -473,7 +533,7 @@ public class Processor extends AbstractProcessor {
     }
 
     /**
-     * Create copy-method for configuration class.
+     * Create copy-method for configuration class. Copy belongs to a change scope and shares members with the original.
      *
      * @param configClass Configuration class name.
      * @param configurationClassBuilder Configuration class builder.
@@ -482,9 +542,9 @@ public class Processor extends AbstractProcessor {
         MethodSpec copyMethod = MethodSpec.methodBuilder("copy")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
-            .addParameter(DynamicConfiguration.class, "root")
+            .addParameter(ChangeScope.class, "scope")
             .returns(configClass)
-            .addStatement("return new $T(this, root)", configClass)
+            .addStatement("return new $T(this, scope)", configClass)
             .build();
 
         configurationClassBuilder.addMethod(copyMethod);
@@ -514,8 +574,7 @@ public class Processor extends AbstractProcessor {
             .addParameter(String.class, "key")
             .addParameter(boolean.class, "isNamed")
             .addParameter(configuratorClassName, "configurator")
-            .addParameter(DynamicConfiguration.class, "root")
-            .addStatement("super(prefix, key, isNamed, configurator, root)")
+            .addStatement("super(prefix, key, isNamed, configurator)")
             .addCode(constructorBodyBuilder.build())
             .build();
         configurationClassBuilder.addMethod(constructorWithName);
@@ -523,8 +582,8 @@ public class Processor extends AbstractProcessor {
         final MethodSpec copyConstructor = MethodSpec.constructorBuilder()
             .addModifiers(PRIVATE)
             .addParameter(configClass, "base")
-            .addParameter(DynamicConfiguration.class, "root")
-            .addStatement("super(base.prefix, base.key, base.isNamed, base.configurator, root)")
+            .addParameter(ChangeScope.class, "scope")
+            .addStatement("super(base, scope)")
             .addCode(copyConstructorBodyBuilder.build())
             .build();
         configurationClassBuilder.addMethod(copyConstructor);
@@ -532,7 +591,7 @@ public class Processor extends AbstractProcessor {
         final MethodSpec emptyConstructor = MethodSpec.constructorBuilder()
                 .addModifiers(PUBLIC)
                 .addParameter(configuratorClassName, "configurator")
-                .addStatement("this($S, $S, false, configurator, null)", "", configName)
+                .addStatement("this($S, $S, false, configurator)", "", configName)
                 .build();
 
         configurationClassBuilder.addMethod(emptyConstructor);
@@ -548,16 +607,17 @@ public class Processor extends AbstractProcessor {
         ClassName selectorsClassName = ClassName.get(packageForUtil, "Selectors");
 
         final TypeSpec.Builder selectorsClass = TypeSpec.classBuilder(selectorsClassName)
-            .superclass(BaseSelectors.class)
             .addModifiers(PUBLIC, FINAL);
 
-        final CodeBlock.Builder selectorsStaticBlockBuilder = CodeBlock.builder();
-        selectorsStaticBlockBuilder.addStatement("$T publicLookup = $T.publicLookup()", MethodHandles.Lookup.class, MethodHandles.class);
+        // Registration statements by root name, every root gets its own registration method
+        final Map<String, CodeBlock.Builder> registrations = new TreeMap<>();
+
+        final List<ConfigurationNode> sortedConfig = new ArrayList<>(flattenConfig);
 
-        selectorsStaticBlockBuilder.beginControlFlow("try");
+        sortedConfig.sort(Comparator.comparing(ConfigurationNode::getName));
 
         // For every configuration node create selector (based on a method call chain)
-        for (ConfigurationNode configNode : flattenConfig) {
+        for (ConfigurationNode configNode : sortedConfig) {
             String regex = "([a-z])([A-Z]+)";
             String replacement = "$1_$2";
 
@@ -619,26 +679,11 @@ public class Processor extends AbstractProcessor {
                 );
 
 
-                // Build a list of parameters for statement
-                List<Object> params = new ArrayList<>();
-                params.add(MethodHandle.class);
-                params.add(varName);
-                params.add(selectorsClassName);
-                params.add(varName);
-                params.add(MethodType.class);
-                params.add(Selector.class);
-
-                // For every named config in call chain -- add String (name) parameter
-                for (int i = 0; i < namedCount; i++) {
-                    params.add(String.class);
-                }
+                // Factory calls selector method directly with the names parsed from the selector key
+                final String names = IntStream.range(0, namedCount).mapToObj(i -> "names[" + i + "]").collect(Collectors.joining(", "));
 
-                // Create a string for name parameters
-                final String nameStringParameters = IntStream.range(0, namedCount).mapToObj(i -> "$T.class").collect(Collectors.joining(","));
-
-                selectorsStaticBlockBuilder.addStatement("$T $L = publicLookup.findStatic($T.class, $S, $T.methodType($T.class, " + nameStringParameters + "))", params.toArray());
-
-                selectorsStaticBlockBuilder.addStatement("put($S, $L)", configNode.getName(), varName);
+                registrations.computeIfAbsent(root.getName(), k -> CodeBlock.builder())
+                    .addStatement("registry.put($S, $L, names -> $L($L))", configNode.getName(), namedCount, varName, names);
             }
             else {
                 selectorsClass.addField(
@@ -647,15 +692,22 @@ public class Processor extends AbstractProcessor {
                         .initializer("(root) -> root$L", methodCall.toString())
                         .build()
                 );
-                selectorsStaticBlockBuilder.addStatement("put($S, $L)", configNode.getName(), varName);
+                registrations.computeIfAbsent(root.getName(), k -> CodeBlock.builder())
+                    .addStatement("registry.put($S, $L)", configNode.getName(), varName);
             }
         }
 
-        selectorsStaticBlockBuilder
-            .nextControlFlow("catch ($T e)", Exception.class)
-            .endControlFlow();
-
-        selectorsClass.addStaticBlock(selectorsStaticBlockBuilder.build());
+        for (Map.Entry<String, CodeBlock.Builder> registration : registrations.entrySet()) {
+            selectorsClass.addMethod(
+                MethodSpec.methodBuilder(registerMethodName(registration.getKey()))
+                    .addJavadoc("Register selectors of {@code $L} configuration.\n\n", registration.getKey())
+                    .addJavadoc("@param registry Selector registry.\n")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(SelectorRegistry.class, "registry")
+                    .addCode(registration.getValue().build())
+                    .build()
+            );
+        }
 
         JavaFile selectorsClassFile = JavaFile.builder(selectorsClassName.packageName(), selectorsClass.build()).build();
         try {
@@ -672,7 +724,12 @@ public class Processor extends AbstractProcessor {
      * @param packageForUtil Package to place keys class to.
      * @param flattenConfig List of configuration nodes.
      */
-    private void createKeysClass(String packageForUtil, List<ConfigurationNode> flattenConfig) {
+    private void createKeysClass(
+        String packageForUtil,
+        List<ConfigurationNode> flattenConfig,
+        List<ConfigurationDescription> roots,
+        Map<TypeName, ConfigurationDescription> props
+    ) {
         final TypeSpec.Builder keysClass = TypeSpec.classBuilder("Keys").addModifiers(PUBLIC, FINAL);
 
         for (ConfigurationNode node : flattenConfig) {
@@ -685,6 +742,27 @@ public class Processor extends AbstractProcessor {
             );
         }
 
+        // Diff of every root walks views of both revisions, subtrees shared between views are skipped
+        for (ConfigurationDescription root : roots) {
+            final String methodName = diffMethodName(root.getName());
+
+            keysClass.addMethod(
+                MethodSpec.methodBuilder("diff")
+                    .addJavadoc("Get values that differ between two views of {@code $L} configuration.\n\n", root.getName())
+                    .addJavadoc("@param oldView Old view.\n@param newView New view.\n@return Changed values.\n")
+                    .addModifiers(PUBLIC, STATIC)
+                    .returns(ConfigurationDiff.class)
+                    .addParameter(root.getView(), "oldView")
+                    .addParameter(root.getView(), "newView")
+                    .addStatement("final $T diff = new $T()", ConfigurationDiff.class, ConfigurationDiff.class)
+                    .addStatement("$L(\"\", $S, oldView, newView, diff)", methodName, root.getName())
+                    .addStatement("return diff")
+                    .build()
+            );
+
+            createDiffMethod(keysClass, methodName, root.getName(), root, props);
+        }
+
         JavaFile keysClassFile = JavaFile.builder(packageForUtil, keysClass.build()).build();
         try {
             keysClassFile.writeTo(filer);
@@ -693,6 +771,146 @@ public class Processor extends AbstractProcessor {
         }
     }
 
+    /**
+     * Get name of the method that registers selectors of the root.
+     *
+     * @param rootName Name of the root, like {@code local}.
+     * @return Method name, like {@code registerLocal}.
+     */
+    private static String registerMethodName(String rootName) {
+        return "register" + Character.toUpperCase(rootName.charAt(0)) + rootName.substring(1);
+    }
+
+    /**
+     * Create method that adds values that differ between two views of the configuration node to the diff.
+     *
+     * @param keysClass Keys class builder.
+     * @param methodName Method name.
+     * @param key Key of the node.
+     * @param node Configuration node.
+     * @param props All configurations.
+     */
+    private void createDiffMethod(
+        TypeSpec.Builder keysClass,
+        String methodName,
+        String key,
+        ConfigurationElement node,
+        Map<TypeName, ConfigurationDescription> props
+    ) {
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(String.class, "parent")
+            .addParameter(String.class, "name")
+            .addParameter(node.getView(), "oldView")
+            .addParameter(node.getView(), "newView")
+            .addParameter(ConfigurationDiff.class, "diff")
+            .beginControlFlow("if (oldView == newView)")
+            .addStatement("return")
+            .endControlFlow()
+            .addStatement("final String path = parent + name");
+
+        TypeName type = node.getType();
+
+        if (Utils.isNamedConfiguration(type))
+            type = Utils.unwrapNamedListConfigurationClass(type);
+
+        // Nested nodes get their methods after this one
+        final List<Runnable> nested = new ArrayList<>();
+
+        for (ConfigurationElement field : props.get(type).getFields()) {
+            final String fieldKey = key + "." + field.getName();
+
+            final CodeBlock oldVal = CodeBlock.of("oldView == null ? null : oldView.$L()", field.getName());
+            final CodeBlock newVal = CodeBlock.of("newView == null ? null : newView.$L()", field.getName());
+
+            final TypeName fieldType = field.getType();
+
+            if (Utils.isNamedConfiguration(fieldType)) {
+                final String listMethodName = diffMethodName(fieldKey);
+
+                builder.addStatement("$L(path, $S, $L, $L, diff)", listMethodName, "." + field.getName(), oldVal, newVal);
+
+                nested.add(() -> createNamedListDiffMethod(keysClass, listMethodName, fieldKey, field, props));
+            }
+            else if (props.containsKey(fieldType)) {
+                final String nodeMethodName = diffMethodName(fieldKey);
+
+                builder.addStatement("$L(path, $S, $L, $L, diff)", nodeMethodName, "." + field.getName(), oldVal, newVal);
+
+                nested.add(() -> createDiffMethod(keysClass, nodeMethodName, fieldKey, field, props));
+            }
+            else {
+                builder.addStatement(
+                    "diff.compare($L, path, $S, $L, $L)",
+                    fieldKey.toUpperCase().replace(".", "_"), "." + field.getName(), oldVal, newVal
+                );
+            }
+        }
+
+        keysClass.addMethod(builder.build());
+
+        nested.forEach(Runnable::run);
+    }
+
+    /**
+     * Create method that adds values that differ between two views of the named list to the diff. Named configurations
+     * are compared by identity first, so only added, changed and removed ones are visited and get their paths built.
+     * Added and removed named configurations are compared with absent ones.
+     *
+     * @param keysClass Keys class builder.
+     * @param methodName Method name.
+     * @param key Key of the named list.
+     * @param list Named list.
+     * @param props All configurations.
+     */
+    private void createNamedListDiffMethod(
+        TypeSpec.Builder keysClass,
+        String methodName,
+        String key,
+        ConfigurationElement list,
+        Map<TypeName, ConfigurationDescription> props
+    ) {
+        final TypeName listType = ParameterizedTypeName.get(ClassName.get(NamedList.class), list.getView());
+
+        final String elementMethodName = methodName + "Element";
+
+        keysClass.addMethod(
+            MethodSpec.methodBuilder(methodName)
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(String.class, "parent")
+                .addParameter(String.class, "name")
+                .addParameter(listType, "oldList")
+                .addParameter(listType, "newList")
+                .addParameter(ConfigurationDiff.class, "diff")
+                .beginControlFlow("if (oldList == newList)")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("final String path = parent + name")
+                .addStatement(
+                    "$T.diff(oldList, newList, (elementName, oldView, newView) -> $L(path, '[' + elementName + ']', oldView, newView, diff))",
+                    NamedList.class, elementMethodName
+                )
+                .build()
+        );
+
+        createDiffMethod(keysClass, elementMethodName, key, list, props);
+    }
+
+    /**
+     * Get name of the diff method of the configuration node.
+     *
+     * @param key Key of the node, like {@code local.baseline.autoAdjust}.
+     * @return Method name, like {@code diffLocalBaselineAutoAdjust}.
+     */
+    private static String diffMethodName(String key) {
+        final StringBuilder res = new StringBuilder("diff");
+
+        for (String part : key.split("\\."))
+            res.append(Character.toUpperCase(part.charAt(0))).append(part, 1, part.length());
+
+        return res.toString();
+    }
+
     /**
      * Create VIEW, INIT and CHANGE classes and methods.
      *
@@ -821,11 +1039,12 @@ public class Processor extends AbstractProcessor {
     }
 
     /**
-     * Create {@link org.apache.ignite.configuration.ConfigurationProperty#value} method for configuration class.
+     * Create {@link DynamicConfiguration#createView} method for configuration class. Views of members are taken
+     * from their caches, so only nodes on the changed path are rebuilt.
      *
      * @param type VIEW method type.
      * @param variables List of VIEW object's fields.
-     * @return toView() method.
+     * @return createView() method.
      */
     public MethodSpec createToViewMethod(TypeName type, List<VariableElement> variables) {
         String args = variables.stream()
@@ -836,8 +1055,8 @@ public class Processor extends AbstractProcessor {
             .add("return new $T($L)", type, args)
             .build();
 
-        return MethodSpec.methodBuilder("value")
-            .addModifiers(PUBLIC)
+        return MethodSpec.methodBuilder("createView")
+            .addModifiers(PROTECTED)
             .addAnnotation(Override.class)
             .returns(type)
             .addStatement(returnBlock)
@@ -886,7 +1105,7 @@ public class Processor extends AbstractProcessor {
 
             final String name = variable.getSimpleName().toString();
             builder.beginControlFlow("if (changes.$L() != null)", name);
-            builder.addStatement("$L.changeWithoutValidation(changes.$L())", name, name);
+            builder.addStatement("$L().changeWithoutValidation(changes.$L())", name, name);
             builder.endControlFlow();
         }
 
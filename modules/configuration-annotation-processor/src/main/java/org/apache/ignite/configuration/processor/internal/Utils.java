@@ -24,6 +24,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.VariableElement;
@@ -71,6 +72,56 @@ public class Utils {
         );
     }
 
+    /**
+     * Create {@code equals} that compares all fields.
+     *
+     * @param clazz Class of the object.
+     * @param fieldSpecs List of fields.
+     * @return Equals method.
+     */
+    public static MethodSpec createEquals(ClassName clazz, List<FieldSpec> fieldSpecs) {
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("equals")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.BOOLEAN)
+            .addParameter(Object.class, "o")
+            .beginControlFlow("if (this == o)")
+            .addStatement("return true")
+            .endControlFlow()
+            .beginControlFlow("if (o == null || getClass() != o.getClass())")
+            .addStatement("return false")
+            .endControlFlow();
+
+        if (fieldSpecs.isEmpty())
+            return builder.addStatement("return true").build();
+
+        final CodeBlock cmp = fieldSpecs.stream()
+            .map(field -> CodeBlock.of("$T.equals($L, that.$L)", Objects.class, field.name, field.name))
+            .collect(CodeBlock.joining("\n    && "));
+
+        return builder
+            .addStatement("final $T that = ($T) o", clazz, clazz)
+            .addStatement("return $L", cmp)
+            .build();
+    }
+
+    /**
+     * Create {@code hashCode} consistent with {@link #createEquals(ClassName, List)}.
+     *
+     * @param fieldSpecs List of fields.
+     * @return Hash code method.
+     */
+    public static MethodSpec createHashCode(List<FieldSpec> fieldSpecs) {
+        final String args = fieldSpecs.stream().map(field -> field.name).collect(Collectors.joining(", "));
+
+        return MethodSpec.methodBuilder("hashCode")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.INT)
+            .addStatement("return $T.hash($L)", Objects.class, args)
+            .build();
+    }
+
     /**
      * Create builder-style setters.
      *
@@ -84,4 +84,8 @@ public class ChangeClassGenerator extends ClassGenerator {
             .build();
     }
 
+    /** {@inheritDoc} */
+    @Override protected boolean valueSemantics() {
+        return true;
+    }
 }
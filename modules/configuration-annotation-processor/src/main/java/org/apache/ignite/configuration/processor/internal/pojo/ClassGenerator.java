@@ -17,6 +17,8 @@
 
 package org.apache.ignite.configuration.processor.internal.pojo;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
@@ -27,11 +29,22 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.VariableElement;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import org.apache.ignite.configuration.annotation.ConfigValue;
+import org.apache.ignite.configuration.annotation.NamedConfigValue;
+import org.apache.ignite.configuration.presentation.PresentationCodec;
+import org.apache.ignite.configuration.presentation.PresentationCodecRegistry;
+import org.apache.ignite.configuration.presentation.PresentationReader;
+import org.apache.ignite.configuration.presentation.PresentationWriter;
 import org.apache.ignite.configuration.processor.internal.Utils;
+import org.apache.ignite.configuration.storage.CodecRegistry;
+import org.apache.ignite.configuration.storage.ConfigurationCodec;
 
 /**
  * Base POJO generator
@@ -95,6 +108,229 @@ public abstract class ClassGenerator {
         final List<MethodSpec> getters = Utils.createGetters(fieldSpecs);
 
         classBuilder.addMethods(getters);
+
+        if (valueSemantics()) {
+            classBuilder.addMethod(Utils.createEquals(className, fieldSpecs));
+            classBuilder.addMethod(Utils.createHashCode(fieldSpecs));
+        }
+
+        createCodec(classBuilder, className, fieldMappings, constructor != null);
+
+        createPresentationCodec(classBuilder, className, fieldMappings, constructor != null);
+
+        classBuilder.addStaticBlock(CodeBlock.builder()
+            .addStatement("$T.register($T.class, CODEC)", CodecRegistry.class, className)
+            .addStatement("$T.register($T.class, PRESENTATION_CODEC)", PresentationCodecRegistry.class, className)
+            .build()
+        );
+    }
+
+    /**
+     * Create binary codec of the class, it is registered in {@link CodecRegistry} on class initialization.
+     *
+     * @param classBuilder Class builder.
+     * @param className Class name.
+     * @param fieldMappings Fields' mappings.
+     * @param allArgsConstructor Whether class is created by the constructor with all fields.
+     */
+    private void createCodec(TypeSpec.Builder classBuilder, ClassName className, List<FieldMapping> fieldMappings, boolean allArgsConstructor) {
+        final TypeName codecType = ParameterizedTypeName.get(ClassName.get(ConfigurationCodec.class), className);
+
+        final MethodSpec.Builder writeMethod = MethodSpec.methodBuilder("write")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(DataOutput.class, "out")
+            .addParameter(className, "obj")
+            .addException(IOException.class)
+            .addStatement("out.writeInt($L)", fieldMappings.size());
+
+        final MethodSpec.Builder readMethod = MethodSpec.methodBuilder("read")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(className)
+            .addParameter(DataInput.class, "in")
+            .addException(IOException.class)
+            .addStatement("final int fieldCnt = in.readInt()");
+
+        for (int i = 0; i < fieldMappings.size(); i++) {
+            final FieldMapping mapping = fieldMappings.get(i);
+            final FieldSpec field = mapping.getFieldSpec();
+            final VariableElement element = mapping.getVariableElement();
+
+            final CodeBlock read;
+
+            if (element.getAnnotation(NamedConfigValue.class) != null) {
+                final TypeName elementType = ((ParameterizedTypeName) field.type).typeArguments.get(0);
+
+                writeMethod.addStatement("$T.writeNamedList(out, $T.CODEC, obj.$L)", CodecRegistry.class, elementType, field.name);
+                read = CodeBlock.of("$T.readNamedList(in, $T.CODEC)", CodecRegistry.class, elementType);
+            }
+            else if (element.getAnnotation(ConfigValue.class) != null) {
+                writeMethod.addStatement("$T.write(out, $T.CODEC, obj.$L)", CodecRegistry.class, field.type, field.name);
+                read = CodeBlock.of("$T.read(in, $T.CODEC)", CodecRegistry.class, field.type);
+            }
+            else {
+                writeMethod.addStatement("$T.writeValue(out, obj.$L)", CodecRegistry.class, field.name);
+                read = CodeBlock.of("($T) $T.readValue(in)", field.type, CodecRegistry.class);
+            }
+
+            // Fields are only appended to schemas, fields missing in older data stay null.
+            readMethod.addStatement("final $T $L = fieldCnt > $L ? $L : null", field.type, field.name, i, read);
+        }
+
+        final String fieldNames = fieldMappings.stream().map(mapping -> mapping.getFieldSpec().name).collect(Collectors.joining(", "));
+
+        if (allArgsConstructor)
+            readMethod.addStatement("return new $T($L)", className, fieldNames);
+        else {
+            readMethod.addStatement("final $T obj = new $T()", className, className);
+
+            for (FieldMapping mapping : fieldMappings)
+                readMethod.addStatement("obj.$L = $L", mapping.getFieldSpec().name, mapping.getFieldSpec().name);
+
+            readMethod.addStatement("return obj");
+        }
+
+        final TypeSpec codec = TypeSpec.anonymousClassBuilder("")
+            .addSuperinterface(codecType)
+            .addMethod(writeMethod.build())
+            .addMethod(readMethod.build())
+            .build();
+
+        classBuilder.addField(
+            FieldSpec.builder(codecType, "CODEC", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Binary codec.\n")
+                .initializer("$L", codec)
+                .build()
+        );
+    }
+
+    /**
+     * Create text codec of the class, it is registered in {@link PresentationCodecRegistry} on class initialization.
+     * Codec reads and writes the object in a single pass over the token stream.
+     *
+     * @param classBuilder Class builder.
+     * @param className Class name.
+     * @param fieldMappings Fields' mappings.
+     * @param allArgsConstructor Whether class is created by the constructor with all fields.
+     */
+    private void createPresentationCodec(
+        TypeSpec.Builder classBuilder,
+        ClassName className,
+        List<FieldMapping> fieldMappings,
+        boolean allArgsConstructor
+    ) {
+        final TypeName codecType = ParameterizedTypeName.get(ClassName.get(PresentationCodec.class), className);
+
+        final MethodSpec.Builder writeMethod = MethodSpec.methodBuilder("write")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(PresentationWriter.class, "out")
+            .addParameter(className, "obj")
+            .addException(IOException.class)
+            .addStatement("out.beginObject()");
+
+        final MethodSpec.Builder readMethod = MethodSpec.methodBuilder("read")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(className)
+            .addParameter(PresentationReader.class, "in")
+            .addException(IOException.class);
+
+        final String target = allArgsConstructor ? "" : "obj.";
+
+        if (allArgsConstructor) {
+            for (FieldMapping mapping : fieldMappings)
+                readMethod.addStatement("$T $L = null", mapping.getFieldSpec().type, mapping.getFieldSpec().name);
+        }
+        else
+            readMethod.addStatement("final $T obj = new $T()", className, className);
+
+        readMethod.addStatement("in.beginObject()")
+            .beginControlFlow("while (in.hasNext())")
+            .beginControlFlow("switch (in.nextName())");
+
+        for (FieldMapping mapping : fieldMappings) {
+            final FieldSpec field = mapping.getFieldSpec();
+            final VariableElement element = mapping.getVariableElement();
+
+            final CodeBlock write;
+            final CodeBlock read;
+
+            if (element.getAnnotation(NamedConfigValue.class) != null) {
+                final TypeName elementType = ((ParameterizedTypeName) field.type).typeArguments.get(0);
+
+                write = CodeBlock.of("$T.writeNamedList(out, $T.PRESENTATION_CODEC, obj.$L)", PresentationCodecRegistry.class, elementType, field.name);
+                read = CodeBlock.of("$T.readNamedList(in, $T.PRESENTATION_CODEC)", PresentationCodecRegistry.class, elementType);
+            }
+            else if (element.getAnnotation(ConfigValue.class) != null) {
+                write = CodeBlock.of("$T.write(out, $T.PRESENTATION_CODEC, obj.$L)", PresentationCodecRegistry.class, field.type, field.name);
+                read = CodeBlock.of("$T.read(in, $T.PRESENTATION_CODEC)", PresentationCodecRegistry.class, field.type);
+            }
+            else {
+                final TypeName type = field.type.box();
+
+                // Numbers, booleans and strings have writer methods of their own.
+                if (type.isBoxedPrimitive() && !type.equals(TypeName.CHAR.box()) || type.equals(ClassName.get(String.class)))
+                    write = CodeBlock.of("out.value(obj.$L)", field.name);
+                else
+                    write = CodeBlock.of("$T.writeValue(out, obj.$L)", PresentationCodecRegistry.class, field.name);
+
+                if (type.equals(TypeName.INT.box()))
+                    read = CodeBlock.of("$T.readInt(in)", PresentationCodecRegistry.class);
+                else if (type.equals(TypeName.LONG.box()))
+                    read = CodeBlock.of("$T.readLong(in)", PresentationCodecRegistry.class);
+                else if (type.equals(TypeName.DOUBLE.box()))
+                    read = CodeBlock.of("$T.readDouble(in)", PresentationCodecRegistry.class);
+                else if (type.equals(TypeName.BOOLEAN.box()))
+                    read = CodeBlock.of("$T.readBoolean(in)", PresentationCodecRegistry.class);
+                else if (type.equals(ClassName.get(String.class)))
+                    read = CodeBlock.of("$T.readString(in)", PresentationCodecRegistry.class);
+                else if (type instanceof ParameterizedTypeName)
+                    read = CodeBlock.of("$T.readValue(in, $T.class)", PresentationCodecRegistry.class, ((ParameterizedTypeName) type).rawType);
+                else
+                    read = CodeBlock.of("$T.readValue(in, $T.class)", PresentationCodecRegistry.class, type);
+            }
+
+            // Absent fields are not written, so INIT and CHANGE objects keep them null when read back.
+            writeMethod.beginControlFlow("if (obj.$L != null)", field.name)
+                .addStatement("out.name($S)", field.name)
+                .addStatement(write)
+                .endControlFlow();
+
+            readMethod.addCode("case $S:\n", field.name)
+                .addStatement("$>$L$L = $L", target, field.name, read)
+                .addStatement("break$<");
+        }
+
+        readMethod.addCode("default:\n")
+            .addStatement("$>in.skipValue()$<")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("in.endObject()");
+
+        if (allArgsConstructor) {
+            final String fieldNames = fieldMappings.stream().map(mapping -> mapping.getFieldSpec().name).collect(Collectors.joining(", "));
+
+            readMethod.addStatement("return new $T($L)", className, fieldNames);
+        }
+        else
+            readMethod.addStatement("return obj");
+
+        writeMethod.addStatement("out.endObject()");
+
+        final TypeSpec codec = TypeSpec.anonymousClassBuilder("")
+            .addSuperinterface(codecType)
+            .addMethod(writeMethod.build())
+            .addMethod(readMethod.build())
+            .build();
+
+        classBuilder.addField(
+            FieldSpec.builder(codecType, "PRESENTATION_CODEC", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Text codec.\n")
+                .initializer("$L", codec)
+                .build()
+        );
     }
 
     /**
@@ -114,6 +350,16 @@ public abstract class ClassGenerator {
      */
     protected abstract MethodSpec mapMethod(ClassName clazz, FieldSpec field);
 
+    /**
+     * Whether objects of the class are compared by value. Such objects get {@code equals} and {@code hashCode}
+     * over all fields, so that re-applied configuration is recognized as unchanged.
+     *
+     * @return {@code true} if objects are compared by value.
+     */
+    protected boolean valueSemantics() {
+        return false;
+    }
+
     /**
      * Create constructor from fields.
      *
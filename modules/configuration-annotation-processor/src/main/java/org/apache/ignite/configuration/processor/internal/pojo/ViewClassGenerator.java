@@ -76,4 +76,9 @@ public class ViewClassGenerator extends ClassGenerator {
     @Override protected MethodSpec createConstructor(List<FieldSpec> fields) {
         return Utils.createConstructor(fields);
     }
+
+    /** {@inheritDoc} */
+    @Override protected boolean valueSemantics() {
+        return true;
+    }
 }
@@ -17,28 +17,56 @@
 
 package org.apache.ignite.configuration.processor.internal.validation;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
-import org.apache.ignite.configuration.internal.DynamicConfiguration;
 import org.apache.ignite.configuration.annotation.Validate;
-import org.apache.ignite.configuration.internal.validation.MaxValidator;
-import org.apache.ignite.configuration.internal.validation.MinValidator;
-import org.apache.ignite.configuration.internal.validation.NotNullValidator;
+import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.internal.IntDynamicProperty;
+import org.apache.ignite.configuration.internal.LongDynamicProperty;
+import org.apache.ignite.configuration.internal.validation.ValidationRegistry;
 import org.apache.ignite.configuration.processor.internal.ProcessorException;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+import org.apache.ignite.configuration.validation.FieldValidator;
 
 /**
- * Class that handles validation generation.
+ * Class that handles validation generation. Every validated field gets a static validation method in the
+ * configuration class: {@link Min}, {@link Max} and {@link NotNull} constraints are inlined as comparisons of the
+ * unboxed value, validators from {@link Validate} annotations are created once and kept in static fields.
  */
 public class ValidationGenerator {
+    /** Wildcard configuration type. */
+    private static final TypeName ROOT_TYPE = ParameterizedTypeName.get(
+        ClassName.get(DynamicConfiguration.class),
+        WildcardTypeName.subtypeOf(Object.class),
+        WildcardTypeName.subtypeOf(Object.class),
+        WildcardTypeName.subtypeOf(Object.class)
+    );
+
+    /** Suffix of the static field with dependencies of field validation. */
+    public static final String DEPENDENCIES_SUFFIX = "_DEPENDENCIES";
+
     /**
      * Private constructor.
      */
@@ -46,92 +74,163 @@ public class ValidationGenerator {
     }
 
     /**
-     * Generate validation block.
+     * Generate validation of the field. Adds validation method and validator fields to the configuration class.
      *
+     * @param typeUtils Type utils.
+     * @param classBuilder Configuration class builder.
      * @param variableElement Configuration field.
-     * @return Code block for field validation.
+     * @param propertyType Type of the property that holds field value.
+     * @param constantName Prefix for names of generated static fields.
+     * @return {@code true} if field has validation, {@code false} if nothing was generated.
      */
-    public static CodeBlock generateValidators(VariableElement variableElement) {
-        List<CodeBlock> validators = new ArrayList<>();
+    public static boolean generateValidation(
+        Types typeUtils,
+        TypeSpec.Builder classBuilder,
+        VariableElement variableElement,
+        TypeName propertyType,
+        String constantName
+    ) {
+        final String fieldName = variableElement.getSimpleName().toString();
+
+        final String methodName = methodName(fieldName);
+
+        final CodeBlock.Builder body = CodeBlock.builder();
+
+        final boolean notNull = processNotNull(variableElement, body);
 
-        processMin(variableElement, validators);
+        final boolean bounds = processBounds(variableElement, propertyType, notNull, body);
 
-        processMax(variableElement, validators);
+        final List<String> validators = processCustomValidations(typeUtils, classBuilder, variableElement, constantName, body);
 
-        processNotNull(variableElement, validators);
+        if (!notNull && !bounds && validators.isEmpty())
+            return false;
 
-        processCustomValidations(variableElement, validators);
+        classBuilder.addMethod(MethodSpec.methodBuilder(methodName)
+            .addJavadoc("Validate {@code $L} field.\n", fieldName)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(propertyType, "property")
+            .addParameter(ROOT_TYPE, "newRoot")
+            .addParameter(ROOT_TYPE, "oldRoot")
+            .addException(ConfigurationValidationException.class)
+            .addCode(body.build())
+            .build()
+        );
 
-        String text = validators.stream().map(v -> "$L").collect(Collectors.joining(","));
+        final String dependenciesName = constantName + DEPENDENCIES_SUFFIX;
 
-        final CodeBlock validatorsArguments = CodeBlock.builder().add(text, validators.toArray()).build();
+        final TypeName dependenciesType = ParameterizedTypeName.get(Collection.class, String.class);
 
-        return CodeBlock.builder().add("$T.asList($L)", Arrays.class, validatorsArguments).build();
+        final CodeBlock dependencies = validators.isEmpty()
+            ? CodeBlock.of("$T.emptyList()", Collections.class)
+            : CodeBlock.of("$T.dependencies($L)", ValidationRegistry.class, String.join(", ", validators));
+
+        classBuilder.addField(FieldSpec.builder(dependenciesType, dependenciesName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("Dependencies of {@code $L} field validation.\n", fieldName)
+            .initializer(dependencies)
+            .build()
+        );
+
+        return true;
     }
 
     /**
-     * Process {@link Min} annotations.
-     * @param variableElement Field.
-     * @param validators Validators code blocks.
+     * Get name of the generated validation method.
+     * @param fieldName Field name.
+     * @return Method name.
      */
-    private static void processMin(VariableElement variableElement, List<CodeBlock> validators) {
-        final Min minAnnotation = variableElement.getAnnotation(Min.class);
-        if (minAnnotation != null) {
-            final long minValue = minAnnotation.value();
-            final String message = minAnnotation.message();
-            final CodeBlock build = CodeBlock.builder().add(
-                "new $T<$T<?, ?, ?>>($L, $S)", MinValidator.class, DynamicConfiguration.class, minValue, message
-            ).build();
-            validators.add(build);
-        }
+    public static String methodName(String fieldName) {
+        return "validate" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
     }
 
     /**
-     * Process {@link Max} annotations.
+     * Process {@link NotNull} annotation.
      * @param variableElement Field.
-     * @param validators Validators code blocks.
+     * @param body Validation method body.
+     * @return {@code true} if field is not nullable.
      */
-    private static void processMax(VariableElement variableElement, List<CodeBlock> validators) {
-        final Max maxAnnotation = variableElement.getAnnotation(Max.class);
+    private static boolean processNotNull(VariableElement variableElement, CodeBlock.Builder body) {
+        final NotNull notNull = variableElement.getAnnotation(NotNull.class);
 
-        if (maxAnnotation != null) {
-            final long maxValue = maxAnnotation.value();
-            final String message = maxAnnotation.message();
+        if (notNull == null)
+            return false;
 
-            // new MaxValidator
-            final CodeBlock build = CodeBlock.builder().add(
-                "new $T<$T<?, ?, ?>>($L, $S)", MaxValidator.class, DynamicConfiguration.class, maxValue, message
-            ).build();
+        body.beginControlFlow("if (property.value() == null)")
+            .addStatement("throw new $T($S)", ConfigurationValidationException.class, notNull.message())
+            .endControlFlow();
 
-            validators.add(build);
-        }
+        return true;
     }
 
     /**
-     * Process {@link NotNull} annotation.
+     * Process {@link Min} and {@link Max} annotations.
      * @param variableElement Field.
-     * @param validators Validators code blocks.
+     * @param propertyType Type of the property.
+     * @param notNull Whether value is already checked not to be {@code null}.
+     * @param body Validation method body.
+     * @return {@code true} if field has bounds.
      */
-    private static void processNotNull(VariableElement variableElement, List<CodeBlock> validators) {
-        final NotNull notNull = variableElement.getAnnotation(NotNull.class);
+    private static boolean processBounds(
+        VariableElement variableElement,
+        TypeName propertyType,
+        boolean notNull,
+        CodeBlock.Builder body
+    ) {
+        final Min minAnnotation = variableElement.getAnnotation(Min.class);
+
+        final Max maxAnnotation = variableElement.getAnnotation(Max.class);
+
+        if (minAnnotation == null && maxAnnotation == null)
+            return false;
+
+        // Unboxed read for primitive properties.
+        final String value;
+
+        if (propertyType.equals(ClassName.get(IntDynamicProperty.class)))
+            value = "property.intValue()";
+        else if (propertyType.equals(ClassName.get(LongDynamicProperty.class)))
+            value = "property.longValue()";
+        else
+            value = "((Number) property.value()).longValue()";
 
-        if (notNull != null) {
-            final String message = notNull.message();
+        if (!notNull)
+            body.beginControlFlow("if (property.value() != null)");
 
-            final CodeBlock build = CodeBlock.builder().add(
-                "new $T<$T<?, ?, ?>>($S)", NotNullValidator.class, DynamicConfiguration.class, message
-            ).build();
+        body.addStatement("final long value = $L", value);
 
-            validators.add(build);
+        if (minAnnotation != null) {
+            body.beginControlFlow("if (value < $LL)", minAnnotation.value())
+                .addStatement("throw new $T($S)", ConfigurationValidationException.class, minAnnotation.message())
+                .endControlFlow();
+        }
+
+        if (maxAnnotation != null) {
+            body.beginControlFlow("if (value > $LL)", maxAnnotation.value())
+                .addStatement("throw new $T($S)", ConfigurationValidationException.class, maxAnnotation.message())
+                .endControlFlow();
         }
+
+        if (!notNull)
+            body.endControlFlow();
+
+        return true;
     }
 
     /**
      * Process custom validations from {@link Validate} annotation.
+     * @param typeUtils Type utils.
+     * @param classBuilder Configuration class builder.
      * @param variableElement Field.
-     * @param validators Validators code blocks.
+     * @param constantName Prefix for names of validator fields.
+     * @param body Validation method body.
+     * @return Names of validator fields.
      */
-    private static void processCustomValidations(VariableElement variableElement, List<CodeBlock> validators) {
+    private static List<String> processCustomValidations(
+        Types typeUtils,
+        TypeSpec.Builder classBuilder,
+        VariableElement variableElement,
+        String constantName,
+        CodeBlock.Builder body
+    ) {
         List<Validate> validateAnnotations = new ArrayList<>();
 
         // There can repeatable Validate annotation, hence Validate.List
@@ -146,6 +245,8 @@ public class ValidationGenerator {
         if (validateAnnotationSingle != null)
             validateAnnotations.add(validateAnnotationSingle);
 
+        final List<String> names = new ArrayList<>();
+
         for (Validate validateAnnotation : validateAnnotations) {
             List<? extends TypeMirror> values = null;
             try {
@@ -164,11 +265,59 @@ public class ValidationGenerator {
                 throw new ProcessorException("Failed to retrieve Validate annotation value");
 
             for (TypeMirror value : values) {
-                final String message = validateAnnotation.message();
-                final CodeBlock build = CodeBlock.builder().add("new $T($S)", value, message).build();
-                validators.add(build);
+                final String name = constantName + "_VALIDATOR" + (names.isEmpty() ? "" : "_" + names.size());
+
+                final TypeName validatorType = TypeName.get(value);
+
+                classBuilder.addField(FieldSpec.builder(validatorType, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T($S)", validatorType, validateAnnotation.message())
+                    .build()
+                );
+
+                final TypeMirror rootType = rootType(typeUtils, value);
+
+                if (rootType != null)
+                    body.addStatement("$N.validate(property.value(), ($T) newRoot, ($T) oldRoot)", name, rootType, rootType);
+                else
+                    body.addStatement("(($T) $N).validate(property.value(), newRoot, oldRoot)", FieldValidator.class, name);
+
+                names.add(name);
             }
         }
+
+        return names;
     }
 
+    /**
+     * Find configuration root type that validator expects.
+     * @param typeUtils Type utils.
+     * @param validatorType Validator type.
+     * @return Root type or {@code null} if it can't be resolved statically.
+     */
+    private static TypeMirror rootType(Types typeUtils, TypeMirror validatorType) {
+        TypeMirror type = validatorType;
+
+        while (type != null && type.getKind() == TypeKind.DECLARED) {
+            final DeclaredType declaredType = (DeclaredType) type;
+
+            if (((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(FieldValidator.class.getName())) {
+                final List<? extends TypeMirror> args = declaredType.getTypeArguments();
+
+                if (args.size() != 2)
+                    return null;
+
+                // Generated root interface is not compiled yet and shows up as an error type.
+                final TypeKind kind = args.get(1).getKind();
+
+                return kind == TypeKind.DECLARED || kind == TypeKind.ERROR ? args.get(1) : null;
+            }
+
+            // Superclass goes first.
+            final List<? extends TypeMirror> supertypes = typeUtils.directSupertypes(type);
+
+            type = supertypes.isEmpty() ? null : supertypes.get(0);
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.sample;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.storage.CodecRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test generated binary codecs of configuration objects.
+ */
+public class CodecTest {
+    /** Whether {@link UnloadedClass} was initialized. */
+    private static volatile boolean unloadedInitialized;
+
+    /**
+     * Test that view of the configuration is restored by its codec.
+     * @throws IOException If failed.
+     */
+    @Test
+    public void testViewRoundTrip() throws IOException {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        CodecRegistry.writeValue(new DataOutputStream(bytes), configurator.getRoot().value());
+
+        final Local local = (Local) CodecRegistry.readValue(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertEquals(true, local.baseline().autoAdjust().enabled());
+        Assertions.assertEquals(100000L, local.baseline().autoAdjust().timeout());
+
+        final Node node = local.baseline().nodes().getValues().get("node1");
+
+        Assertions.assertEquals("test", node.consistentId());
+        Assertions.assertEquals(1000, node.port());
+    }
+
+    /**
+     * Test that change object is restored by its codec and fields missing in the input are left unset.
+     * @throws IOException If failed.
+     */
+    @Test
+    public void testChangeMissingFields() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        CodecRegistry.write(new DataOutputStream(bytes), ChangeAutoAdjust.CODEC, new ChangeAutoAdjust().withTimeout(5L));
+
+        ChangeAutoAdjust change = CodecRegistry.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ChangeAutoAdjust.CODEC);
+
+        Assertions.assertEquals(5L, change.timeout());
+        Assertions.assertNull(change.enabled());
+
+        // Object written by a schema that only knew the first field.
+        bytes = new ByteArrayOutputStream();
+
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(1);
+        CodecRegistry.writeValue(out, 7L);
+
+        change = ChangeAutoAdjust.CODEC.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertEquals(7L, change.timeout());
+        Assertions.assertNull(change.enabled());
+    }
+
+    /**
+     * Test that values without a codec are not written and that a value naming a class without a registered codec is
+     * not read, so neither Java serialization nor class loading is driven by the input.
+     * @throws IOException If failed.
+     */
+    @Test
+    public void testUnknownTypes() throws IOException {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> CodecRegistry.writeValue(new DataOutputStream(new ByteArrayOutputStream()), new StringBuilder("a"))
+        );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        // Codec tag followed by the name of a class that is on the class path but has no codec.
+        out.writeByte(7);
+        out.writeUTF(UnloadedClass.class.getName());
+
+        final IOException e = Assertions.assertThrows(
+            IOException.class,
+            () -> CodecRegistry.readValue(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        );
+
+        Assertions.assertEquals("No codec registered for configuration class: " + UnloadedClass.class.getName(), e.getMessage());
+        Assertions.assertFalse(unloadedInitialized);
+    }
+
+    /**
+     * Class that must not be initialized by reading values.
+     */
+    private static class UnloadedClass {
+        static {
+            unloadedInitialized = true;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.sample;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of concurrent changes of the configuration.
+ */
+public class ConcurrentChangeTest {
+    /** Number of writer threads. */
+    private static final int THREADS = 8;
+
+    /** Number of changes made by every writer. */
+    private static final int CHANGES = 500;
+
+    /**
+     * Test that concurrent commits are neither lost nor interleaved. Changes of concurrent writers may be combined,
+     * so there are at most as many revisions as changes.
+     */
+    @Test
+    public void testConcurrentSet() throws Exception {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.initLocal(0L));
+
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> writers = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            final long timeout = i;
+
+            final Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                // Every commit sets a distinct value, re-applied values aren't committed.
+                for (int j = 0; j < CHANGES; j++) {
+                    configurator.set(
+                        Selectors.LOCAL_BASELINE_AUTO_ADJUST,
+                        new ChangeAutoAdjust().withEnabled(true).withTimeout(timeout * CHANGES + j + 1)
+                    );
+                }
+            });
+
+            writer.start();
+
+            writers.add(writer);
+        }
+
+        start.countDown();
+
+        for (Thread writer : writers)
+            writer.join();
+
+        Assertions.assertTrue(configurator.revision() > 0);
+        Assertions.assertTrue(configurator.revision() <= THREADS * CHANGES);
+        Assertions.assertTrue(configurator.getRoot().baseline().autoAdjust().enabled().value());
+
+        // Last change of some writer is the last one committed.
+        Assertions.assertEquals(0, configurator.getRoot().baseline().autoAdjust().timeout().value() % CHANGES);
+    }
+
+    /**
+     * Test that every writer gets the result of its own change when changes are combined.
+     */
+    @Test
+    public void testConcurrentValidation() throws Exception {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.initLocal(1L));
+
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final AtomicInteger failures = new AtomicInteger();
+
+        final List<Thread> writers = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            // Odd writers disable auto adjust with positive timeout, which is invalid.
+            final boolean invalid = i % 2 == 1;
+
+            final long timeout = i;
+
+            final Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                for (int j = 0; j < CHANGES; j++) {
+                    try {
+                        if (invalid)
+                            configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false);
+                        else
+                            configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, timeout * CHANGES + j + 1);
+                    }
+                    catch (ConfigurationValidationException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+
+            writer.start();
+
+            writers.add(writer);
+        }
+
+        start.countDown();
+
+        for (Thread writer : writers)
+            writer.join();
+
+        Assertions.assertEquals(THREADS / 2 * CHANGES, failures.get());
+        Assertions.assertTrue(configurator.getRoot().baseline().autoAdjust().enabled().value());
+    }
+
+
+    /**
+     * Test that a write based on a stale storage revision waits for the missed storage event instead of spinning,
+     * and is committed on top of it.
+     */
+    @Test
+    public void testStaleStorageRevision() throws Exception {
+        final TestStorage storage = new TestStorage();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L)
+        );
+
+        // Write of another node that hasn't been delivered yet.
+        storage.hold();
+        storage.save(Keys.LOCAL_BASELINE_AUTOADJUST_ENABLED, false);
+
+        final Thread deliverer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+
+            storage.deliver();
+        });
+
+        deliverer.start();
+
+        configurator.set(Selectors.LOCAL_MAX_NODES, 3);
+
+        deliverer.join();
+
+        // Spinning writer would have been rejected until the event was delivered.
+        Assertions.assertTrue(storage.rejected.get() <= 2, String.valueOf(storage.rejected.get()));
+        Assertions.assertEquals(2, storage.revision());
+        Assertions.assertEquals(2, configurator.revision());
+        Assertions.assertFalse(configurator.getRoot().baseline().autoAdjust().enabled().value());
+        Assertions.assertEquals(3, configurator.getRoot().maxNodes().intValue());
+    }
+
+    /**
+     * Test that writes of other roots advance the storage revision known to the configurator without changing its
+     * configuration.
+     */
+    @Test
+    public void testWriteOfOtherRoot() {
+        final TestStorage storage = new TestStorage();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L)
+        );
+
+        storage.save(Keys.CLUSTER_BASELINE_AUTOADJUST_TIMEOUT, 5L);
+
+        Assertions.assertEquals(0, configurator.revision());
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 1L);
+
+        Assertions.assertEquals(0, storage.rejected.get());
+        Assertions.assertEquals(1, configurator.revision());
+        Assertions.assertEquals(1L, configurator.getRoot().baseline().autoAdjust().timeout().value());
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.sample;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import org.apache.ignite.configuration.ConfigurationProperty;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.PropertyListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of asynchronous listener notification.
+ */
+public class ListenerDispatchTest {
+    /**
+     * Test that updates made while listeners are busy are coalesced and full listener lifecycle is invoked.
+     */
+    @Test
+    public void testCoalescing() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            new TestStorage(),
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L),
+            tasks::add
+        );
+
+        final List<String> events = new ArrayList<>();
+
+        final PropertyListener<Long, Long> listener = new PropertyListener<Long, Long>() {
+            @Override public boolean beforeUpdate(Long oldValue, Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                events.add("before " + oldValue + " " + newValue);
+
+                return newValue != 4L;
+            }
+
+            @Override public void update(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                events.add("update " + newValue);
+            }
+
+            @Override public void afterUpdate(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                events.add("after " + newValue);
+            }
+        };
+
+        configurator.getRoot().baseline().autoAdjust().timeout().addListener(listener);
+
+        for (long i = 1; i <= 3; i++)
+            configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, i);
+
+        // Writers are not blocked by listeners, all updates are waiting for a single delivery.
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertTrue(events.isEmpty());
+
+        tasks.poll().run();
+
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals("before 0 3", events.get(0));
+        Assertions.assertEquals("update 3", events.get(1));
+        Assertions.assertEquals("after 3", events.get(2));
+
+        events.clear();
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 4L);
+
+        tasks.poll().run();
+
+        // Listener skipped the update.
+        Assertions.assertEquals(Collections.singletonList("before 3 4"), events);
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Test that listeners of the same property are scheduled separately, so a busy listener doesn't delay the others
+     * and still gets the coalesced update once it is free.
+     */
+    @Test
+    public void testSlowListener() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            new TestStorage(),
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L),
+            tasks::add
+        );
+
+        final List<Long> slowUpdates = new ArrayList<>();
+
+        final List<Long> fastUpdates = new ArrayList<>();
+
+        configurator.getRoot().baseline().autoAdjust().timeout().addListener(new PropertyListener<Long, Long>() {
+            @Override public void update(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                slowUpdates.add(newValue);
+            }
+        });
+
+        configurator.getRoot().baseline().autoAdjust().timeout().addListener(new PropertyListener<Long, Long>() {
+            @Override public void update(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                fastUpdates.add(newValue);
+            }
+        });
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 1L);
+
+        Assertions.assertEquals(2, tasks.size());
+
+        // Task of the slow listener is held, the fast listener is notified on its own.
+        final Runnable slow = tasks.poll();
+
+        tasks.poll().run();
+
+        Assertions.assertEquals(Collections.singletonList(1L), fastUpdates);
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 2L);
+
+        // Slow listener is still scheduled, so only the fast one gets a new task.
+        Assertions.assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+
+        Assertions.assertEquals(List.of(1L, 2L), fastUpdates);
+
+        slow.run();
+
+        Assertions.assertEquals(Collections.singletonList(2L), slowUpdates);
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Test that re-applied configuration changes nothing and notifies nobody.
+     */
+    @Test
+    public void testUnchangedValuesSkipped() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            new TestStorage(),
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L),
+            tasks::add
+        );
+
+        final List<Long> updates = new ArrayList<>();
+
+        configurator.getRoot().baseline().autoAdjust().timeout().addListener(new PropertyListener<Long, Long>() {
+            @Override public void update(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                updates.add(newValue);
+            }
+        });
+
+        final ChangeLocal change = new ChangeLocal().withBaseline(
+            new ChangeBaseline().withAutoAdjust(new ChangeAutoAdjust().withEnabled(true).withTimeout(5L))
+        );
+
+        configurator.set(Selectors.LOCAL, change);
+
+        tasks.poll().run();
+
+        Assertions.assertEquals(Collections.singletonList(5L), updates);
+
+        final Local view = configurator.getRoot().value();
+
+        final ChangeLocal sameChange = new ChangeLocal().withBaseline(
+            new ChangeBaseline().withAutoAdjust(new ChangeAutoAdjust().withEnabled(true).withTimeout(5L))
+        );
+
+        Assertions.assertEquals(change, sameChange);
+        Assertions.assertEquals(change.hashCode(), sameChange.hashCode());
+
+        configurator.set(Selectors.LOCAL, sameChange);
+
+        Assertions.assertTrue(tasks.isEmpty());
+        Assertions.assertEquals(Collections.singletonList(5L), updates);
+        Assertions.assertEquals(view, configurator.getRoot().value());
+        Assertions.assertNotEquals(view, configurator.getRoot().value().baseline().autoAdjust());
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.sample;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.configuration.ConfigurationProperty;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.PropertyListener;
+import org.apache.ignite.configuration.internal.DynamicProperty;
+import org.apache.ignite.configuration.internal.NamedList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that changes don't leave listeners and storage subscriptions behind.
+ */
+public class ListenerLeakTest {
+    /** Number of changes. */
+    private static final int CHANGES = 1_000;
+
+    /** Number of named configurations added and removed. */
+    private static final int NAMED = 100;
+
+    /**
+     * Test that number of listeners and storage subscriptions stays the same over many changes and that removal of
+     * the listener leaves no registry entry behind.
+     */
+    @Test
+    public void testNoLeakOnChange() {
+        final TestStorage storage = new TestStorage(false);
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L),
+            Runnable::run
+        );
+
+        final int initialSubscriptions = storage.subscriptions.get();
+
+        Assertions.assertEquals(1, initialSubscriptions);
+
+        final DynamicProperty<Long> timeout = configurator.getRoot().baseline().autoAdjust().timeout();
+
+        final AtomicLong lastSeen = new AtomicLong(-1);
+
+        final PropertyListener<Long, Long> listener = new PropertyListener<Long, Long>() {
+            @Override public void update(Long newValue, ConfigurationProperty<Long, Long> modifier) {
+                lastSeen.set(newValue);
+            }
+        };
+
+        Assertions.assertEquals(0, configurator.listenedProperties());
+
+        timeout.addListener(listener);
+
+        for (long i = 1; i <= CHANGES; i++)
+            configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, i);
+
+        Assertions.assertEquals(initialSubscriptions, storage.subscriptions.get());
+        Assertions.assertEquals(1, configurator.listenerCount(timeout.qualifiedName()));
+        Assertions.assertEquals(1, configurator.listenedProperties());
+        Assertions.assertEquals(CHANGES, storage.saves.get());
+        Assertions.assertEquals(CHANGES, lastSeen.get());
+
+        Assertions.assertTrue(timeout.removeListener(listener));
+        Assertions.assertEquals(0, configurator.listenerCount(timeout.qualifiedName()));
+        Assertions.assertEquals(0, configurator.listenedProperties());
+    }
+
+    /**
+     * Test that listeners of named configurations are forgotten once the configurations are removed, so adding and
+     * removing named configurations doesn't grow the listener registry.
+     */
+    @Test
+    public void testNoLeakOnNamedChurn() {
+        final TestStorage storage = new TestStorage(false);
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(0L),
+            Runnable::run
+        );
+
+        final AtomicLong updates = new AtomicLong();
+
+        final PropertyListener<Integer, Integer> listener = new PropertyListener<Integer, Integer>() {
+            @Override public void update(Integer newValue, ConfigurationProperty<Integer, Integer> modifier) {
+                updates.incrementAndGet();
+            }
+        };
+
+        for (int i = 0; i < NAMED; i++) {
+            final String name = "node" + i;
+
+            final Map<String, Serializable> values = new HashMap<>();
+
+            values.put("local.baseline.nodes[" + name + "].consistentId", name);
+            values.put("local.baseline.nodes[" + name + "].port", 1000);
+
+            // Named configuration is added by another node.
+            storage.saveAll(values);
+
+            final DynamicProperty<Integer> port = configurator.getRoot().baseline().nodes().get(name).port();
+
+            port.addListener(listener);
+
+            configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT(name), 1001);
+
+            Assertions.assertEquals(1, configurator.listenerCount(port.qualifiedName()));
+
+            configurator.set(
+                Selectors.LOCAL_BASELINE,
+                new ChangeBaseline().withNodes(new NamedList<>(Collections.singletonMap(name, null)))
+            );
+
+            Assertions.assertEquals(0, configurator.listenerCount(port.qualifiedName()));
+            Assertions.assertEquals(0, configurator.listenedProperties());
+        }
+
+        Assertions.assertEquals(NAMED, updates.get());
+        Assertions.assertEquals(0, configurator.getRoot().baseline().nodes().size());
+        Assertions.assertEquals(1, storage.subscriptions.get());
+    }
+
+}
@@ -19,6 +19,10 @@ package org.apache.ignite.configuration.sample;
 
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.ConfigValue;
+import org.apache.ignite.configuration.annotation.Validate;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.sample.validation.MaxNodesValidator;
+import org.apache.ignite.configuration.sample.validation.SeedNodeValidator;
 
 /**
  * Test local configuration schema.
@@ -29,4 +33,14 @@ public class LocalConfigurationSchema {
     @ConfigValue
     private BaselineConfigurationSchema baseline;
 
+    /** Name of the baseline node that other nodes connect to first. */
+    @Value
+    @Validate(value = SeedNodeValidator.class, message = "Seed node is not in the baseline")
+    private String seedNode;
+
+    /** Maximum number of baseline nodes. */
+    @Value
+    @Validate(value = MaxNodesValidator.class, message = "Too many baseline nodes")
+    private int maxNodes;
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.configuration.ConfigurationProperty;
+import org.apache.ignite.configuration.Configurator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test members of configuration nodes.
+ */
+public class MembersTest {
+    /**
+     * Test that members are listed in declaration order and the same view is returned by every call.
+     */
+    @Test
+    public void testOrderAndCaching() {
+        final LocalConfigurationImpl root = TestConfigurations.configurator(TestConfigurations.singleNode()).getRoot();
+
+        Assertions.assertEquals(Arrays.asList("baseline", "seedNode", "maxNodes"), new ArrayList<>(root.members().keySet()));
+        Assertions.assertEquals(
+            Arrays.asList("timeout", "enabled"),
+            new ArrayList<>(root.baseline().autoAdjust().members().keySet())
+        );
+        Assertions.assertEquals(
+            Arrays.asList("consistentId", "port", "autoAdjustEnabled"),
+            new ArrayList<>(root.baseline().nodes().get("node1").members().keySet())
+        );
+
+        Assertions.assertSame(root.members(), root.members());
+        Assertions.assertSame(root.baseline(), root.members().get("baseline"));
+        Assertions.assertSame(root.baseline().nodes().members(), root.baseline().nodes().members());
+    }
+
+    /**
+     * Test that members can't be modified.
+     */
+    @Test
+    public void testReadOnly() {
+        final LocalConfigurationImpl root = TestConfigurations.configurator(TestConfigurations.singleNode()).getRoot();
+
+        final Map<String, ConfigurationProperty<?, ?>> members = root.baseline().members();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> members.remove("autoAdjust"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> members.put("nodes", null));
+        Assertions.assertThrows(UnsupportedOperationException.class, members::clear);
+
+        final Map<String, ConfigurationProperty<?, ?>> nodes = root.baseline().nodes().members();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> nodes.remove("node1"));
+        Assertions.assertEquals(1, nodes.size());
+    }
+
+    /**
+     * Test that members of a committed node don't change when the configuration is changed.
+     */
+    @Test
+    public void testCommittedMembers() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final Map<String, ConfigurationProperty<?, ?>> members = configurator.getRoot().baseline().autoAdjust().members();
+
+        final Map<String, ConfigurationProperty<?, ?>> copy = new HashMap<>(members);
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 5L);
+
+        Assertions.assertEquals(copy, members);
+        Assertions.assertEquals(100000L, members.get("timeout").value());
+        Assertions.assertEquals(5L, configurator.getRoot().baseline().autoAdjust().members().get("timeout").value());
+    }
+}
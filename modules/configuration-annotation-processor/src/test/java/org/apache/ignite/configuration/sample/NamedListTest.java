@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.sample;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.configuration.ConfigurationDiff;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.internal.NamedList;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test large named lists.
+ */
+public class NamedListTest {
+    /** Number of named configurations. */
+    private static final int SIZE = 10_000;
+
+    /**
+     * Test that updates and removals of named configurations write only what has changed, and that named
+     * configurations are restored from the storage.
+     */
+    @Test
+    public void testLargeList() {
+        final TestStorage storage = new TestStorage();
+
+        Configurator<LocalConfigurationImpl> configurator = Configurator.create(storage, LocalConfigurationImpl::new, init());
+
+        Assertions.assertEquals(SIZE, configurator.getRoot().baseline().nodes().size());
+
+        final Baseline oldView = configurator.getRoot().baseline().value();
+
+        final Iterator<String> names = oldView.nodes().getValues().keySet().iterator();
+
+        Assertions.assertEquals(name(0), names.next());
+        Assertions.assertEquals(name(1), names.next());
+
+        configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT(name(42)), 1);
+
+        Assertions.assertEquals(Collections.singletonList(Collections.singletonMap(qualifiedName(42, "port"), 1)), storage.writes);
+
+        final Baseline newView = configurator.getRoot().baseline().value();
+
+        Assertions.assertEquals(1, newView.nodes().getValues().get(name(42)).port());
+        Assertions.assertEquals(42, oldView.nodes().getValues().get(name(42)).port());
+
+        // Views of unchanged named configurations are shared.
+        Assertions.assertSame(oldView.nodes().getValues().get(name(1)), newView.nodes().getValues().get(name(1)));
+
+        configurator.set(
+            Selectors.LOCAL_BASELINE,
+            new ChangeBaseline().withNodes(new NamedList<>(Collections.singletonMap(name(7), null)))
+        );
+
+        final Map<String, Serializable> tombstones = new HashMap<>();
+
+        tombstones.put(qualifiedName(7, "consistentId"), null);
+        tombstones.put(qualifiedName(7, "port"), null);
+        tombstones.put(qualifiedName(7, "autoAdjustEnabled"), null);
+
+        Assertions.assertEquals(tombstones, storage.writes.get(1));
+
+        Assertions.assertNull(configurator.getRoot().baseline().nodes().get(name(7)));
+        Assertions.assertEquals(SIZE - 1, configurator.getRoot().baseline().nodes().size());
+        Assertions.assertEquals(SIZE - 1, configurator.getRoot().baseline().value().nodes().getValues().size());
+
+        // Named configuration saved by another node.
+        storage.values.put("local.baseline.nodes[extra].port", 5);
+
+        // Only saved values are restored, initial ones were never saved.
+        configurator = Configurator.create(storage, LocalConfigurationImpl::new);
+
+        Assertions.assertNull(configurator.getRoot().baseline().nodes().get(name(7)));
+        Assertions.assertEquals(1, configurator.getRoot().baseline().nodes().get(name(42)).port().intValue());
+        Assertions.assertEquals(5, configurator.getRoot().baseline().nodes().get("extra").port().intValue());
+        Assertions.assertEquals(2, configurator.getRoot().baseline().nodes().size());
+    }
+
+    /**
+     * Test that restored configuration reads properties by their keys and scans only the subtrees of named lists.
+     */
+    @Test
+    public void testRestoreReads() {
+        final TestStorage storage = new TestStorage();
+
+        final Configurator<LocalConfigurationImpl> initial = Configurator.create(storage, LocalConfigurationImpl::new, init());
+
+        initial.set(Selectors.LOCAL_BASELINE_NODES_PORT(name(42)), 1);
+
+        storage.values.put(Keys.LOCAL_BASELINE_AUTOADJUST_TIMEOUT, 7L);
+        storage.scans.clear();
+        storage.gets.set(0);
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(storage, LocalConfigurationImpl::new);
+
+        Assertions.assertEquals(Collections.singletonList(Keys.LOCAL_BASELINE_NODES), storage.scans);
+
+        // Auto adjust timeout and enabled, seed node and maximum number of nodes.
+        Assertions.assertEquals(4, storage.gets.get());
+
+        Assertions.assertEquals(7L, configurator.getRoot().baseline().autoAdjust().timeout().value());
+        Assertions.assertEquals(1, configurator.getRoot().baseline().nodes().get(name(42)).port().intValue());
+        Assertions.assertEquals(1, configurator.getRoot().baseline().nodes().size());
+    }
+
+    /**
+     * Test that validation of large changes runs in parallel and reports failures of all properties.
+     */
+    @Test
+    public void testParallelValidation() {
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(new TestStorage(), LocalConfigurationImpl::new, init());
+
+        configurator.parallelValidationThreshold(100);
+
+        // Auto adjust of nodes can't be enabled once it's disabled in the baseline.
+        try {
+            configurator.change(batch -> {
+                batch.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false);
+
+                for (int i = 0; i < SIZE; i++)
+                    batch.set(Selectors.LOCAL_BASELINE_NODES_AUTO_ADJUST_ENABLED(name(i)), true);
+            });
+
+            Assertions.fail();
+        }
+        catch (ConfigurationValidationException e) {
+            Assertions.assertEquals(SIZE, e.failures().size());
+            Assertions.assertEquals(qualifiedName(0, "autoAdjustEnabled"), e.failures().keySet().iterator().next());
+        }
+
+        Assertions.assertEquals(0, configurator.revision());
+
+        configurator.change(batch -> {
+            for (int i = 0; i < SIZE; i++)
+                batch.set(Selectors.LOCAL_BASELINE_NODES_AUTO_ADJUST_ENABLED(name(i)), true);
+        });
+
+        Assertions.assertEquals(1, configurator.revision());
+        Assertions.assertTrue(configurator.getRoot().baseline().nodes().get(name(SIZE - 1)).autoAdjustEnabled().value());
+    }
+
+    /**
+     * Test diff of two views of the root.
+     */
+    @Test
+    public void testDiff() {
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(new TestStorage(), LocalConfigurationImpl::new, init());
+
+        final Local oldView = configurator.getRoot().value();
+
+        configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT(name(42)), 1);
+
+        configurator.set(
+            Selectors.LOCAL_BASELINE,
+            new ChangeBaseline().withNodes(new NamedList<>(Collections.singletonMap(name(7), null)))
+        );
+
+        final Local newView = configurator.getRoot().value();
+
+        final List<ConfigurationDiff.Entry> entries = Keys.diff(oldView, newView).entries();
+
+        Assertions.assertEquals(3, entries.size());
+
+        // Named configurations are visited in the order of names, values of removed one are compared with absent ones.
+        Assertions.assertEquals(qualifiedName(7, "consistentId"), entries.get(0).path());
+        Assertions.assertEquals(name(7), entries.get(0).oldValue());
+        Assertions.assertNull(entries.get(0).newValue());
+        Assertions.assertEquals(qualifiedName(7, "port"), entries.get(1).path());
+
+        Assertions.assertEquals(Keys.LOCAL_BASELINE_NODES_PORT, entries.get(2).key());
+        Assertions.assertEquals(qualifiedName(42, "port"), entries.get(2).path());
+        Assertions.assertEquals(42, entries.get(2).oldValue());
+        Assertions.assertEquals(1, entries.get(2).newValue());
+
+        // Only changed named configurations are visited, shared ones are skipped by identity.
+        final List<String> visited = new ArrayList<>();
+
+        NamedList.diff(oldView.baseline().nodes(), newView.baseline().nodes(), (name, oldNode, newNode) -> visited.add(name));
+
+        Assertions.assertEquals(Arrays.asList(name(7), name(42)), visited);
+
+        Assertions.assertTrue(Keys.diff(newView, newView).isEmpty());
+    }
+
+    /**
+     * Test paging over named configurations.
+     */
+    @Test
+    public void testPages() {
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(new TestStorage(), LocalConfigurationImpl::new, init());
+
+        final List<String> names = new ArrayList<>();
+
+        String after = null;
+
+        for (List<NodeConfigurationImpl> page; !(page = configurator.getRoot().baseline().nodes().page(after, 333)).isEmpty(); ) {
+            for (NodeConfigurationImpl node : page)
+                names.add(node.key());
+
+            after = page.get(page.size() - 1).key();
+        }
+
+        Assertions.assertEquals(SIZE, names.size());
+
+        for (int i = 0; i < SIZE; i++)
+            Assertions.assertEquals(name(i), names.get(i));
+    }
+
+    /**
+     * @return Initial configuration with {@link #SIZE} nodes.
+     */
+    private static InitLocal init() {
+        final Map<String, InitNode> nodes = new HashMap<>();
+
+        for (int i = 0; i < SIZE; i++)
+            nodes.put(name(i), new InitNode().withConsistentId(name(i)).withPort(i));
+
+        return TestConfigurations.initLocal(true, 0L, nodes);
+    }
+
+    /**
+     * @param idx Index of the node.
+     * @return Name of the node.
+     */
+    private static String name(int idx) {
+        return String.format("node%05d", idx);
+    }
+
+    /**
+     * @param idx Index of the node.
+     * @param property Property name.
+     * @return Qualified name of the property of the node.
+     */
+    private static String qualifiedName(int idx, String property) {
+        return "local.baseline.nodes[" + name(idx) + "]." + property;
+    }
+
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.configuration.sample;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Validate;
@@ -35,6 +37,8 @@ public class NodeConfigurationSchema {
 
     /** Port. */
     @Value
+    @Min(value = 0, message = "Port must not be negative")
+    @Max(value = 65535, message = "Port must not exceed 65535")
     private int port;
 
     /** Auto adjust enabled. */
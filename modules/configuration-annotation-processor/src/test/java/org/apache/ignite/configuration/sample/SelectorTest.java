@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.internal.selector.Selector;
+import org.apache.ignite.configuration.internal.selector.SelectorNotFoundException;
+import org.apache.ignite.configuration.internal.selector.SelectorRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test resolution of selectors by name.
+ */
+public class SelectorTest {
+    /**
+     * Test that selectors of elements outside of named configurations are shared, selectors of elements of named
+     * configurations are resolved on every lookup, and both stay valid for later roots.
+     */
+    @Test
+    public void testResolve() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final SelectorRegistry selectors = configurator.selectors();
+
+        final Selector<LocalConfigurationImpl, ?, ?, ?, ?> timeout = selectors.find(Keys.LOCAL_BASELINE_AUTOADJUST_TIMEOUT);
+
+        Assertions.assertSame(timeout, selectors.find(Keys.LOCAL_BASELINE_AUTOADJUST_TIMEOUT));
+
+        final Selector<LocalConfigurationImpl, ?, ?, ?, ?> port = selectors.find("local.baseline.nodes[node1].port");
+
+        // Names of named configurations are unbounded, so their selectors are not kept.
+        Assertions.assertNotSame(port, selectors.find("local.baseline.nodes[node1].port"));
+
+        Assertions.assertSame(
+            port.select(configurator.getRoot()),
+            selectors.find("local.baseline.nodes[node1].port").select(configurator.getRoot())
+        );
+
+        configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 1001);
+
+        // Selector is not bound to the root it was resolved for.
+        Assertions.assertSame(configurator.getRoot().baseline().nodes().get("node1").port(), port.select(configurator.getRoot()));
+        Assertions.assertEquals(1001, (Integer) configurator.getPublic(port));
+        Assertions.assertSame(
+            configurator.getRoot().baseline().autoAdjust().timeout(),
+            timeout.select(configurator.getRoot())
+        );
+    }
+
+    /**
+     * Test that selector with a wrong number of names is not found, however many times it is looked up.
+     */
+    @Test
+    public void testWrongArity() {
+        final SelectorRegistry selectors = TestConfigurations.configurator(TestConfigurations.singleNode()).selectors();
+
+        for (int i = 0; i < 2; i++) {
+            final SelectorNotFoundException e = Assertions.assertThrows(
+                SelectorNotFoundException.class,
+                () -> selectors.find(Keys.LOCAL_BASELINE_NODES_PORT)
+            );
+
+            Assertions.assertEquals(
+                "Selector local.baseline.nodes.port expects 1 names, got: local.baseline.nodes.port",
+                e.getMessage()
+            );
+        }
+
+        Assertions.assertThrows(
+            SelectorNotFoundException.class,
+            () -> selectors.find("local.baseline[a].autoAdjust[b].timeout")
+        );
+    }
+
+    /**
+     * Test that named selectors created by generated factories select entries of the given names.
+     */
+    @Test
+    public void testNamedSelector() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final LocalConfigurationImpl root = configurator.getRoot();
+
+        Assertions.assertSame(
+            root.baseline().nodes().get("node1").port(),
+            Selectors.LOCAL_BASELINE_NODES_PORT("node1").select(root)
+        );
+        Assertions.assertSame(
+            root.baseline().nodes().get("node1"),
+            configurator.selectors().find("local.baseline.nodes[node1]").select(root)
+        );
+    }
+
+    /**
+     * Test that unknown keys and keys with a wrong number of names are reported with {@link SelectorNotFoundException}.
+     */
+    @Test
+    public void testNotFound() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        SelectorNotFoundException e = Assertions.assertThrows(
+            SelectorNotFoundException.class,
+            () -> configurator.find("unknown.baseline")
+        );
+
+        Assertions.assertEquals("Selector unknown.baseline was not found", e.getMessage());
+
+        e = Assertions.assertThrows(SelectorNotFoundException.class, () -> configurator.find("local.baseline.nodes[node1].host"));
+
+        Assertions.assertEquals(
+            "Selector local.baseline.nodes.host was not found, available options are: " +
+                "local.baseline.nodes, local.baseline.nodes.autoAdjustEnabled, local.baseline.nodes.consistentId, local.baseline.nodes.port",
+            e.getMessage()
+        );
+
+        e = Assertions.assertThrows(SelectorNotFoundException.class, () -> configurator.find("local.baseline[node1].autoAdjust"));
+
+        Assertions.assertEquals("Selector local.baseline.autoAdjust expects 0 names, got: local.baseline[node1].autoAdjust", e.getMessage());
+
+        e = Assertions.assertThrows(SelectorNotFoundException.class, () -> configurator.find("local.baseline.nodes[a][b].port"));
+
+        Assertions.assertEquals("Selector local.baseline.nodes.port expects 1 names, got: local.baseline.nodes[a][b].port", e.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import org.apache.ignite.configuration.ConfigurationSnapshot;
+import org.apache.ignite.configuration.Configurator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of committed snapshots of the configuration.
+ */
+public class SnapshotTest {
+    /**
+     * Test that a snapshot stays at its revision after later commits.
+     */
+    @Test
+    public void testSnapshotRevision() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final LocalConfigurationImpl oldRoot = configurator.getRoot();
+
+        final ConfigurationSnapshot<LocalConfigurationImpl> snapshot = configurator.snapshot();
+
+        Assertions.assertSame(snapshot, configurator.snapshot());
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 500L);
+
+        Assertions.assertEquals(0, snapshot.revision());
+        Assertions.assertEquals(1, configurator.snapshot().revision());
+        Assertions.assertSame(oldRoot, snapshot.root());
+        Assertions.assertSame(configurator.getRoot(), configurator.snapshot().root());
+        Assertions.assertEquals(100000L, snapshot.get(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT));
+        Assertions.assertEquals(500L, configurator.snapshot().get(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT));
+    }
+}
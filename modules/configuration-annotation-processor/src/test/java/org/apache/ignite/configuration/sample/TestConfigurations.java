@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import java.util.Collections;
+import java.util.Map;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.internal.NamedList;
+
+/**
+ * Initial configurations shared by the tests of the sample schema.
+ */
+final class TestConfigurations {
+    /** Constructor. */
+    private TestConfigurations() {
+    }
+
+    /**
+     * @param enabled Whether auto adjust is enabled.
+     * @param timeout Auto adjust timeout.
+     * @param nodes Baseline nodes by name.
+     * @return Initial local configuration.
+     */
+    static InitLocal initLocal(boolean enabled, long timeout, Map<String, InitNode> nodes) {
+        return new InitLocal().withBaseline(
+            new InitBaseline()
+                .withNodes(new NamedList<>(nodes))
+                .withAutoAdjust(new InitAutoAdjust().withEnabled(enabled).withTimeout(timeout))
+        );
+    }
+
+    /**
+     * @param timeout Auto adjust timeout.
+     * @return Initial local configuration with enabled auto adjust and no nodes.
+     */
+    static InitLocal initLocal(long timeout) {
+        return initLocal(true, timeout, Collections.emptyMap());
+    }
+
+    /**
+     * @return Initial local configuration with enabled auto adjust and a single node {@code node1}.
+     */
+    static InitLocal singleNode() {
+        return initLocal(true, 100000L, Collections.singletonMap("node1", new InitNode().withConsistentId("test").withPort(1000)));
+    }
+
+    /**
+     * @param init Initial configuration.
+     * @return Configurator of the local configuration backed by an empty {@link TestStorage}.
+     */
+    static Configurator<LocalConfigurationImpl> configurator(InitLocal init) {
+        return Configurator.create(new TestStorage(), LocalConfigurationImpl::new, init);
+    }
+}
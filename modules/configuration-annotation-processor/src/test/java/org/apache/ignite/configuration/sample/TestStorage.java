@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.ignite.configuration.storage.ConfigurationStorage;
+import org.apache.ignite.configuration.storage.StorageEvent;
+
+/**
+ * Storage that keeps values in memory and records writes. Every write increments the revision and is delivered to
+ * the watchers after the write, unless events are held. Events are delivered in revision order by one thread at a
+ * time, other writers leave their events to it.
+ */
+class TestStorage implements ConfigurationStorage {
+    /** Values. */
+    final Map<String, Serializable> values = new TreeMap<>();
+
+    /** Writes, empty if writes are not recorded. */
+    final List<Map<String, ? extends Serializable>> writes = new ArrayList<>();
+
+    /** Number of writes. */
+    final AtomicInteger saves = new AtomicInteger();
+
+    /** Prefixes of the subtrees read with {@link #getAll(String)}. */
+    final List<String> scans = new ArrayList<>();
+
+    /** Number of values read with {@link #get(String)}. */
+    final AtomicInteger gets = new AtomicInteger();
+
+    /** Number of watches. */
+    final AtomicInteger subscriptions = new AtomicInteger();
+
+    /** Number of conditional writes rejected because of a stale revision. */
+    final AtomicInteger rejected = new AtomicInteger();
+
+    /** Whether writes are recorded. */
+    private final boolean recordWrites;
+
+    /** Watchers. */
+    private final List<Consumer<StorageEvent>> watches = new ArrayList<>();
+
+    /** Events that are held until {@link #deliver()} is called, {@code null} if events are not held. */
+    private List<StorageEvent> held;
+
+    /** Events waiting to be delivered, in revision order. */
+    private final Queue<StorageEvent> undelivered = new ArrayDeque<>();
+
+    /** {@code true} while some thread delivers events. */
+    private boolean delivering;
+
+    /** Revision. */
+    private long revision;
+
+    /** Constructor. */
+    TestStorage() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     * @param recordWrites Whether writes are recorded, writes are only counted otherwise.
+     */
+    TestStorage(boolean recordWrites) {
+        this.recordWrites = recordWrites;
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T extends Serializable> void save(String propertyName, T object) {
+        saveAll(Collections.singletonMap(propertyName, object));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void saveAll(Map<String, ? extends Serializable> values) {
+        synchronized (this) {
+            enqueue(write(values));
+        }
+
+        // Watchers are notified outside of the lock, like storages that notify asynchronously.
+        deliverPending();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean saveAll(Map<String, ? extends Serializable> values, long expectedRevision) {
+        synchronized (this) {
+            if (expectedRevision != revision) {
+                rejected.incrementAndGet();
+
+                return false;
+            }
+
+            enqueue(write(values));
+        }
+
+        deliverPending();
+
+        return true;
+    }
+
+    /**
+     * Apply write to the values.
+     * @param values Written values.
+     * @return Event of the write.
+     */
+    private StorageEvent write(Map<String, ? extends Serializable> values) {
+        saves.incrementAndGet();
+
+        if (recordWrites)
+            writes.add(values);
+
+        values.forEach((key, value) -> {
+            if (value == null)
+                this.values.remove(key);
+            else
+                this.values.put(key, value);
+        });
+
+        return new StorageEvent(++revision, new HashMap<>(values));
+    }
+
+    /**
+     * Enqueue event of the write, or hold it if events are held. Must be called under the lock.
+     * @param evt Event of the write.
+     */
+    private void enqueue(StorageEvent evt) {
+        if (held != null)
+            held.add(evt);
+        else
+            undelivered.add(evt);
+    }
+
+    /**
+     * Deliver enqueued events unless another thread delivers them already.
+     */
+    private void deliverPending() {
+        synchronized (this) {
+            if (delivering)
+                return;
+
+            delivering = true;
+        }
+
+        try {
+            while (true) {
+                final StorageEvent evt;
+
+                final List<Consumer<StorageEvent>> watches;
+
+                synchronized (this) {
+                    evt = undelivered.poll();
+
+                    if (evt == null) {
+                        delivering = false;
+
+                        return;
+                    }
+
+                    watches = new ArrayList<>(this.watches);
+                }
+
+                for (Consumer<StorageEvent> watch : watches)
+                    watch.accept(evt);
+            }
+        }
+        catch (RuntimeException | Error e) {
+            synchronized (this) {
+                delivering = false;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Hold events of the following writes until {@link #deliver()} is called.
+     */
+    synchronized void hold() {
+        held = new ArrayList<>();
+    }
+
+    /**
+     * Deliver held events and stop holding events.
+     */
+    void deliver() {
+        synchronized (this) {
+            undelivered.addAll(held);
+
+            held = null;
+        }
+
+        deliverPending();
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized long revision() {
+        return revision;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized <T extends Serializable> T get(String propertyName) {
+        gets.incrementAndGet();
+
+        return (T) values.get(propertyName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized Map<String, Serializable> getAll(String prefix) {
+        scans.add(prefix);
+
+        final Map<String, Serializable> res = new HashMap<>();
+
+        values.forEach((key, value) -> {
+            if (StorageEvent.matches(key, prefix))
+                res.put(key, value);
+        });
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized void watch(String prefix, long fromRevision, Consumer<StorageEvent> consumer) {
+        subscriptions.incrementAndGet();
+
+        watches.add(evt -> {
+            final Map<String, Serializable> filtered = new HashMap<>();
+
+            evt.values().forEach((key, value) -> {
+                if (StorageEvent.matches(key, prefix))
+                    filtered.put(key, value);
+            });
+
+            if (!filtered.isEmpty())
+                consumer.accept(new StorageEvent(evt.revision(), filtered));
+        });
+    }
+}
@@ -17,12 +17,9 @@
 
 package org.apache.ignite.configuration.sample;
 
-import java.io.Serializable;
-import java.util.Collections;
-import java.util.function.Consumer;
+import java.util.Arrays;
 import org.apache.ignite.configuration.Configurator;
-import org.apache.ignite.configuration.internal.NamedList;
-import org.apache.ignite.configuration.storage.ConfigurationStorage;
+import org.apache.ignite.configuration.internal.selector.SelectorNotFoundException;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -38,43 +35,15 @@ public class UsageTest {
      */
     @Test
     public void test() {
-        final ConfigurationStorage storage = new ConfigurationStorage() {
-
-            @Override
-            public <T extends Serializable> void save(String propertyName, T object) {
-
-            }
-
-            @Override
-            public <T extends Serializable> T get(String propertyName) {
-                return null;
-            }
-
-            @Override
-            public <T extends Serializable> void listen(String key, Consumer<T> listener) {
-
-            }
-        };
-
-        InitLocal initLocal = new InitLocal().withBaseline(
-            new InitBaseline()
-                .withNodes(
-                    new NamedList<>(
-                        Collections.singletonMap("node1", new InitNode().withConsistentId("test").withPort(1000))
-                    )
-                )
-                .withAutoAdjust(new InitAutoAdjust().withEnabled(true).withTimeout(100000L))
-        );
-
-        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
-            storage,
-            LocalConfigurationImpl::new,
-            initLocal
-        );
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
 
         final LocalConfiguration root = configurator.getRoot();
         root.baseline().autoAdjust().enabled().value();
 
+        Assertions.assertTrue(root.baseline().autoAdjust().enabled().booleanValue());
+        Assertions.assertEquals(100000L, root.baseline().autoAdjust().timeout().longValue());
+        Assertions.assertEquals(1000, root.baseline().nodes().get("node1").port().intValue());
+
         try {
             configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false);
             Assertions.fail();
@@ -92,4 +61,123 @@ public class UsageTest {
         PublicConfigurator<LocalConfiguration> con = new PublicConfigurator<>(configurator);
     }
 
+    /**
+     * Test that a change copies only the path from the changed element to the root.
+     */
+    @Test
+    public void testStructuralSharing() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final LocalConfigurationImpl oldRoot = configurator.getRoot();
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 500L);
+
+        final LocalConfigurationImpl newRoot = configurator.getRoot();
+
+        Assertions.assertNotSame(oldRoot, newRoot);
+        Assertions.assertNotSame(oldRoot.baseline(), newRoot.baseline());
+        Assertions.assertNotSame(oldRoot.baseline().autoAdjust(), newRoot.baseline().autoAdjust());
+        Assertions.assertSame(oldRoot.baseline().nodes(), newRoot.baseline().nodes());
+        Assertions.assertSame(oldRoot.baseline().autoAdjust().enabled(), newRoot.baseline().autoAdjust().enabled());
+
+        Assertions.assertEquals(100000L, oldRoot.baseline().autoAdjust().timeout().value());
+        Assertions.assertEquals(500L, newRoot.baseline().autoAdjust().timeout().value());
+    }
+
+    /**
+     * Test that views are cached per configuration node and only views on the changed path are rebuilt.
+     */
+    @Test
+    public void testViewCaching() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final Local oldView = configurator.getRoot().value();
+
+        Assertions.assertSame(oldView, configurator.getRoot().value());
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 500L);
+
+        final Local newView = configurator.getRoot().value();
+
+        Assertions.assertNotSame(oldView, newView);
+        Assertions.assertSame(oldView.baseline().nodes(), newView.baseline().nodes());
+        Assertions.assertEquals(100000L, oldView.baseline().autoAdjust().timeout());
+        Assertions.assertEquals(500L, newView.baseline().autoAdjust().timeout());
+    }
+
+    /**
+     * Test that changes of a batch are validated together and saved with a single write.
+     */
+    @Test
+    public void testBatchChange() {
+        final TestStorage storage = new TestStorage();
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.initLocal(100000L)
+        );
+
+        // Disabling auto adjust alone is invalid while timeout is positive.
+        try {
+            configurator.change(batch -> batch
+                .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false)
+                .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 5L)
+            );
+            Assertions.fail();
+        } catch (ConfigurationValidationException e) {}
+
+        Assertions.assertEquals(0, configurator.revision());
+        Assertions.assertTrue(storage.writes.isEmpty());
+
+        configurator.change(batch -> batch
+            .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false)
+            .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 0L)
+        );
+
+        Assertions.assertEquals(1, configurator.revision());
+        Assertions.assertEquals(1, storage.writes.size());
+        Assertions.assertEquals(2, storage.writes.get(0).size());
+        Assertions.assertFalse(configurator.getRoot().baseline().autoAdjust().enabled().value());
+        Assertions.assertEquals(0L, configurator.getRoot().baseline().autoAdjust().timeout().value());
+    }
+
+    /**
+     * Test that selectors are registered per configurator root and can be listed by prefix.
+     */
+    @Test
+    public void testSelectorRegistry() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        Assertions.assertEquals(1000, (Integer) configurator.getPublic(configurator.find("local.baseline.nodes[node1].port")));
+
+        Assertions.assertEquals(
+            Arrays.asList("local.baseline.autoAdjust", "local.baseline.autoAdjust.enabled", "local.baseline.autoAdjust.timeout"),
+            configurator.selectors().keys("local.baseline.au")
+        );
+        Assertions.assertEquals(
+            Arrays.asList("local.baseline.nodes[node1].port"),
+            configurator.selectors().keys("local.baseline.nodes[node1].p")
+        );
+        Assertions.assertEquals(
+            Arrays.asList(
+                "local.baseline.nodes[node1]",
+                "local.baseline.nodes[node1].autoAdjustEnabled",
+                "local.baseline.nodes[node1].consistentId",
+                "local.baseline.nodes[node1].port"
+            ),
+            configurator.selectors().keys("local.baseline.nodes[node1]")
+        );
+
+        // Selectors of other roots are not registered.
+        Assertions.assertTrue(configurator.selectors().keys("cluster").isEmpty());
+        Assertions.assertThrows(SelectorNotFoundException.class, () -> configurator.find("cluster.baseline"));
+
+        final SelectorNotFoundException e = Assertions.assertThrows(
+            SelectorNotFoundException.class,
+            () -> configurator.find("local.baseline.autoAdjust.unknown")
+        );
+
+        Assertions.assertTrue(e.getMessage().endsWith("local.baseline.autoAdjust, local.baseline.autoAdjust.enabled, local.baseline.autoAdjust.timeout"));
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.sample;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.internal.NamedList;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that a change runs validators of the changed properties and of the properties that depend on them.
+ */
+public class ValidationTest {
+    /**
+     * Test that validator is re-run when its dependency changes and skipped otherwise.
+     */
+    @Test
+    public void testDependentValidation() {
+        final TestStorage storage = new TestStorage();
+
+        // Values restored from the storage aren't validated, so the seed node is invalid from the start.
+        storage.values.put(Keys.LOCAL_SEEDNODE, "unknown");
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.singleNode()
+        );
+
+        // Seed node doesn't depend on auto adjust.
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 5L);
+
+        Assertions.assertEquals(5L, configurator.getRoot().baseline().autoAdjust().timeout().value());
+
+        // Seed node depends on the whole subtree of nodes.
+        final ConfigurationValidationException e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 1001)
+        );
+
+        Assertions.assertEquals("Seed node is not in the baseline", e.getMessage());
+        Assertions.assertEquals(1000, configurator.getRoot().baseline().nodes().get("node1").port().intValue());
+
+        configurator.change(batch -> batch
+            .set(Selectors.LOCAL_SEED_NODE, "node1")
+            .set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 1001)
+        );
+
+        Assertions.assertEquals("node1", configurator.getRoot().seedNode().value());
+    }
+
+    /**
+     * Test that removal of a named configuration runs validators that depend on the named list.
+     */
+    @Test
+    public void testRemovalValidation() {
+        final Map<String, InitNode> nodes = new HashMap<>();
+
+        nodes.put("node1", new InitNode().withConsistentId("node1").withPort(1000));
+        nodes.put("node2", new InitNode().withConsistentId("node2").withPort(1001));
+
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(
+            TestConfigurations.initLocal(true, 0L, nodes).withSeedNode("node1")
+        );
+
+        final ChangeBaseline removeNode1 = new ChangeBaseline().withNodes(new NamedList<>(Collections.singletonMap("node1", null)));
+
+        final ConfigurationValidationException e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE, removeNode1)
+        );
+
+        Assertions.assertEquals("Seed node is not in the baseline", e.getMessage());
+        Assertions.assertNotNull(configurator.getRoot().baseline().nodes().get("node1"));
+
+        configurator.set(Selectors.LOCAL_SEED_NODE, "node2");
+        configurator.set(Selectors.LOCAL_BASELINE, removeNode1);
+
+        Assertions.assertNull(configurator.getRoot().baseline().nodes().get("node1"));
+    }
+
+    /**
+     * Test that validator of a dependency is run when the dependent property changes. Auto adjust timeout depends on
+     * whether auto adjust is enabled.
+     */
+    @Test
+    public void testDependencyChange() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, false)
+        );
+
+        Assertions.assertTrue(configurator.getRoot().baseline().autoAdjust().enabled().value());
+    }
+
+    /**
+     * Test that validator without declared dependencies is run on every change.
+     */
+    @Test
+    public void testUnconditionalValidation() {
+        final TestStorage storage = new TestStorage();
+
+        storage.values.put(Keys.LOCAL_MAXNODES, 0);
+
+        final Configurator<LocalConfigurationImpl> configurator = Configurator.create(
+            storage,
+            LocalConfigurationImpl::new,
+            TestConfigurations.singleNode()
+        );
+
+        final ConfigurationValidationException e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 5L)
+        );
+
+        Assertions.assertEquals("Too many baseline nodes", e.getMessage());
+        Assertions.assertEquals(0, configurator.revision());
+
+        configurator.set(Selectors.LOCAL_MAX_NODES, 1);
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 5L);
+
+        Assertions.assertEquals(2, configurator.revision());
+    }
+
+    /**
+     * Test boundaries of inlined {@code @Min} and {@code @Max} validation of int and long properties.
+     */
+    @Test
+    public void testMinMax() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 0);
+        configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 65535);
+
+        ConfigurationValidationException e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), 65536)
+        );
+
+        Assertions.assertEquals("Port must not exceed 65535", e.getMessage());
+
+        e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_NODES_PORT("node1"), -1)
+        );
+
+        Assertions.assertEquals("Port must not be negative", e.getMessage());
+        Assertions.assertEquals(65535, configurator.getRoot().baseline().nodes().get("node1").port().intValue());
+
+        configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 0L);
+
+        e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, -1L)
+        );
+
+        Assertions.assertEquals("Minimal is 0", e.getMessage());
+        Assertions.assertEquals(0L, configurator.getRoot().baseline().autoAdjust().timeout().longValue());
+    }
+
+    /**
+     * Test inlined {@code @NotNull} validation of a new named configuration. Consistent id is immutable, so a node
+     * created by a change never has it.
+     */
+    @Test
+    public void testNotNull() {
+        final Configurator<LocalConfigurationImpl> configurator = TestConfigurations.configurator(TestConfigurations.singleNode());
+
+        final ConfigurationValidationException e = Assertions.assertThrows(
+            ConfigurationValidationException.class,
+            () -> configurator.set(
+                Selectors.LOCAL_BASELINE,
+                new ChangeBaseline().withNodes(new NamedList<>(Collections.singletonMap("node2", new ChangeNode().withPort(1))))
+            )
+        );
+
+        Assertions.assertEquals("Consistent id must not be null", e.getMessage());
+        Assertions.assertNull(configurator.getRoot().baseline().nodes().get("node2"));
+    }
+}
@@ -15,30 +15,24 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.configuration.internal.validation;
+package org.apache.ignite.configuration.sample.validation;
 
-import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.sample.LocalConfiguration;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
 import org.apache.ignite.configuration.validation.FieldValidator;
 
 /**
- * Validate that field value is not less than some minimal value.
- *
- * @param <C> Root configuration type.
+ * Checks that the baseline has no more nodes than allowed. Doesn't declare dependencies, so it runs on every change.
  */
-public class MinValidator<C extends DynamicConfiguration<?, ?, ?>> extends FieldValidator<Number, C> {
-    /** Minimal value. */
-    private final long minValue;
-
+public class MaxNodesValidator extends FieldValidator<Integer, LocalConfiguration> {
     /** Constructor. */
-    public MinValidator(long minValue, String message) {
+    public MaxNodesValidator(String message) {
         super(message);
-        this.minValue = minValue;
     }
 
     /** {@inheritDoc} */
-    @Override public void validate(Number value, C newRoot, C oldRoot) throws ConfigurationValidationException {
-        if (value.longValue() < minValue)
+    @Override public void validate(Integer value, LocalConfiguration newRoot, LocalConfiguration oldRoot) throws ConfigurationValidationException {
+        if (value != null && newRoot.baseline().nodes().size() > value)
             throw new ConfigurationValidationException(message);
     }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.ignite.configuration.sample.validation;
 
+import java.util.Collection;
+import java.util.Collections;
+import org.apache.ignite.configuration.sample.Keys;
 import org.apache.ignite.configuration.sample.LocalConfiguration;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
 import org.apache.ignite.configuration.validation.FieldValidator;
@@ -37,4 +40,9 @@ public class NodeValidator extends FieldValidator<Boolean, LocalConfiguration> {
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override public Collection<String> dependencies() {
+        return Collections.singletonList(Keys.LOCAL_BASELINE_AUTOADJUST_ENABLED);
+    }
 }
@@ -15,30 +15,32 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.configuration.internal.validation;
+package org.apache.ignite.configuration.sample.validation;
 
-import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import java.util.Collection;
+import java.util.Collections;
+import org.apache.ignite.configuration.sample.Keys;
+import org.apache.ignite.configuration.sample.LocalConfiguration;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
 import org.apache.ignite.configuration.validation.FieldValidator;
 
 /**
- * Validate that field value is not greater than some maximum value.
- *
- * @param <C> Root configuration type.
+ * Checks that the seed node is one of the baseline nodes.
  */
-public class MaxValidator<C extends DynamicConfiguration<?, ?, ?>> extends FieldValidator<Number, C> {
-    /** Maximum value. */
-    private final long maxValue;
-
+public class SeedNodeValidator extends FieldValidator<String, LocalConfiguration> {
     /** Constructor. */
-    public MaxValidator(long maxValue, String message) {
+    public SeedNodeValidator(String message) {
         super(message);
-        this.maxValue = maxValue;
     }
 
     /** {@inheritDoc} */
-    @Override public void validate(Number value, C newRoot, C oldRoot) throws ConfigurationValidationException {
-        if (value.longValue() > maxValue)
+    @Override public void validate(String value, LocalConfiguration newRoot, LocalConfiguration oldRoot) throws ConfigurationValidationException {
+        if (value != null && newRoot.baseline().nodes().get(value) == null)
             throw new ConfigurationValidationException(message);
     }
+
+    /** {@inheritDoc} */
+    @Override public Collection<String> dependencies() {
+        return Collections.singletonList(Keys.LOCAL_BASELINE_NODES);
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.internal.Modifier;
+import org.apache.ignite.configuration.internal.selector.Selector;
+
+/**
+ * Set of changes that are committed together: applied to one copy of the configuration root, validated once and
+ * saved with a single storage write.
+ * @param <T> Type of configuration root.
+ */
+public class ChangeBatch<T extends DynamicConfiguration<?, ?, ?>> {
+    /** Changes in order of addition. */
+    private final List<Consumer<T>> changes = new ArrayList<>();
+
+    /**
+     * Add change of configuration element selected by the selector. Changes are applied in order of addition, so a
+     * later change of the same element wins.
+     *
+     * @param selector Selector of the configuration element.
+     * @param change Change.
+     * @param <TARGET> Type of the configuration element.
+     * @param <VIEW> VIEW type.
+     * @param <INIT> INIT type.
+     * @param <CHANGE> CHANGE type.
+     * @return {@code this} for chaining.
+     */
+    public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> ChangeBatch<T> set(
+        Selector<T, TARGET, VIEW, INIT, CHANGE> selector,
+        CHANGE change
+    ) {
+        changes.add(root -> selector.select(root).changeWithoutValidation(change));
+
+        return this;
+    }
+
+    /**
+     * Apply all changes to the configuration root.
+     * @param root Configuration root that belongs to an active change scope.
+     */
+    void apply(T root) {
+        for (Consumer<T> change : changes)
+            change.accept(root);
+    }
+
+    /**
+     * @return {@code true} if batch has no changes.
+     */
+    boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Values that differ between two views of a configuration root. Diff is built by the {@code diff} methods that are
+ * generated into the {@code Keys} class for every configuration root.
+ */
+public final class ConfigurationDiff implements Iterable<ConfigurationDiff.Entry> {
+    /** Changed values. */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Add value if it differs between views. Qualified name of the value is built only if the value is added.
+     * @param key Key of the value, one of {@code Keys} constants.
+     * @param path Qualified name of the configuration node that holds the value, including names of named
+     *      configurations.
+     * @param name Name of the value within the node, like {@code .port}.
+     * @param oldVal Value in the old view, {@code null} if value is absent.
+     * @param newVal Value in the new view, {@code null} if value is absent.
+     */
+    public void compare(String key, String path, String name, Serializable oldVal, Serializable newVal) {
+        if (!Objects.equals(oldVal, newVal))
+            entries.add(new Entry(key, path + name, oldVal, newVal));
+    }
+
+    /**
+     * Get changed values in the order of the configuration tree.
+     * @return Changed values.
+     */
+    public List<Entry> entries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Check whether views are equal.
+     * @return {@code true} if nothing has changed.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Iterator<Entry> iterator() {
+        return entries().iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return entries.toString();
+    }
+
+    /**
+     * Changed value.
+     */
+    public static final class Entry {
+        /** Key of the value. */
+        private final String key;
+
+        /** Qualified name of the value. */
+        private final String path;
+
+        /** Old value. */
+        private final Serializable oldVal;
+
+        /** New value. */
+        private final Serializable newVal;
+
+        /**
+         * Constructor.
+         * @param key Key of the value.
+         * @param path Qualified name of the value.
+         * @param oldVal Old value.
+         * @param newVal New value.
+         */
+        private Entry(String key, String path, Serializable oldVal, Serializable newVal) {
+            this.key = key;
+            this.path = path;
+            this.oldVal = oldVal;
+            this.newVal = newVal;
+        }
+
+        /**
+         * Get key of the value, like {@code local.baseline.nodes.port}.
+         * @return Key.
+         */
+        public String key() {
+            return key;
+        }
+
+        /**
+         * Get qualified name of the value, like {@code local.baseline.nodes[node1].port}.
+         * @return Qualified name.
+         */
+        public String path() {
+            return path;
+        }
+
+        /**
+         * Get old value.
+         * @return Old value, {@code null} if value has been added.
+         */
+        public Serializable oldValue() {
+            return oldVal;
+        }
+
+        /**
+         * Get new value.
+         * @return New value, {@code null} if value has been removed.
+         */
+        public Serializable newValue() {
+            return newVal;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return path + ": " + oldVal + " -> " + newVal;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration;
+
+import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.internal.Modifier;
+import org.apache.ignite.configuration.internal.selector.Selector;
+
+/**
+ * Configuration root committed by a {@link Configurator} together with its revision. Committed roots are never
+ * modified, so all reads made through one snapshot see the same revision, while reads made through the configurator
+ * may see values of different commits. Configurator publishes snapshots as is, taking a snapshot doesn't copy
+ * anything.
+ * <pre>
+ * final ConfigurationSnapshot&lt;LocalConfigurationImpl&gt; snapshot = configurator.snapshot();
+ *
+ * final boolean enabled = snapshot.get(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED);
+ * final long timeout = snapshot.get(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT);
+ * </pre>
+ * @param <T> Type of configuration root.
+ */
+public final class ConfigurationSnapshot<T extends DynamicConfiguration<?, ?, ?>> {
+    /** Configuration root. */
+    private final T root;
+
+    /** Revision, incremented by every commit. */
+    private final long revision;
+
+    /** Revision of the storage that the root corresponds to. */
+    private final long storageRevision;
+
+    /**
+     * Constructor.
+     * @param root Configuration root.
+     * @param revision Revision.
+     * @param storageRevision Revision of the storage.
+     */
+    ConfigurationSnapshot(T root, long revision, long storageRevision) {
+        this.root = root;
+        this.revision = revision;
+        this.storageRevision = storageRevision;
+    }
+
+    /**
+     * Get view of the configuration element selected by the selector.
+     * @param selector Selector of the configuration element.
+     * @param <TARGET> Type of the configuration element.
+     * @param <VIEW> VIEW type.
+     * @param <INIT> INIT type.
+     * @param <CHANGE> CHANGE type.
+     * @return View of the element at the revision of this snapshot.
+     */
+    public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> VIEW get(
+        Selector<T, TARGET, VIEW, INIT, CHANGE> selector
+    ) {
+        return selector.select(root).value();
+    }
+
+    /**
+     * Get configuration root.
+     * @return Configuration root.
+     */
+    public T root() {
+        return root;
+    }
+
+    /**
+     * Get revision of the snapshot.
+     * @return Revision, {@code 0} for the initial root.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    /**
+     * Get revision of the storage that the root corresponds to.
+     * @return Storage revision.
+     */
+    long storageRevision() {
+        return storageRevision;
+    }
+}
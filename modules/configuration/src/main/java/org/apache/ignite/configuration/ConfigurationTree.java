@@ -25,6 +25,6 @@ import java.util.Map;
  * @param <CHANGE> Type of the object that changes this node's value.
  */
 public interface ConfigurationTree<VALUE, CHANGE> extends ConfigurationProperty<VALUE, CHANGE> {
-    /** Children of the tree. */
+    /** Children of the tree, read-only and in declaration order. */
     Map<String, ConfigurationProperty<?, ?>> members();
 }
@@ -18,19 +18,37 @@
 package org.apache.ignite.configuration;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import org.apache.ignite.configuration.internal.ChangeScope;
 import org.apache.ignite.configuration.internal.DynamicConfiguration;
 import org.apache.ignite.configuration.internal.DynamicProperty;
+import org.apache.ignite.configuration.internal.ListenerRegistry;
 import org.apache.ignite.configuration.internal.Modifier;
+import org.apache.ignite.configuration.internal.NamedListConfiguration;
 import org.apache.ignite.configuration.internal.selector.Selector;
+import org.apache.ignite.configuration.internal.selector.SelectorNotFoundException;
+import org.apache.ignite.configuration.internal.selector.SelectorRegistry;
 import org.apache.ignite.configuration.storage.ConfigurationStorage;
+import org.apache.ignite.configuration.storage.StorageEvent;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
-import org.apache.ignite.configuration.validation.FieldValidator;
 import org.apache.ignite.configuration.internal.validation.MemberKey;
+import org.apache.ignite.configuration.internal.validation.ValidationRegistry;
 
 /**
  * Convenient wrapper for configuration root. Provides access to configuration tree, stores validators, performs actions
@@ -38,14 +56,41 @@ import org.apache.ignite.configuration.internal.validation.MemberKey;
  * @param <T> Type of configuration root.
  */
 public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
+    /** Maximum time in milliseconds that a failed conditional write waits for the storage event it missed. */
+    private static final long STORAGE_EVENT_WAIT_TIMEOUT = 100;
+
     /** Storage for the configuration tree. */
     private final ConfigurationStorage storage;
 
-    /** Root of the configuration tree. */
-    private final T root;
+    /**
+     * Last committed root of the configuration tree. Committed roots are never modified, commits replace them with
+     * a compare-and-set, readers never lock.
+     */
+    private final AtomicReference<ConfigurationSnapshot<T>> committed = new AtomicReference<>();
 
     /** Configuration property validators. */
-    private final Map<MemberKey, List<FieldValidator<? extends Serializable, T>>> fieldValidators = new HashMap<>();
+    private final ValidationRegistry<T> validation = new ValidationRegistry<>();
+
+    /** Selectors of the root. */
+    private final SelectorRegistry selectors = new SelectorRegistry();
+
+    /** Property listeners. */
+    private final ListenerRegistry listeners;
+
+    /** Commits whose writes to the storage are in progress. */
+    private final Queue<PreparedCommit<T>> writes = new ConcurrentLinkedQueue<>();
+
+    /** Monitor that writers rejected by the storage wait on for the missed storage event. */
+    private final Object committedMux = new Object();
+
+    /** Number of writers waiting on {@link #committedMux}. */
+    private final AtomicInteger committedWaiters = new AtomicInteger();
+
+    /** Changes waiting to be committed by a combiner, in arrival order. */
+    private final Queue<PendingChange<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    /** Lock held by the writer that commits pending changes of conflicting writers. */
+    private final ReentrantLock combinerLock = new ReentrantLock();
 
     /**
      *
@@ -61,7 +106,7 @@ public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
         ConfigurationStorage storage,
         Function<Configurator<CONF>, CONF> rootBuilder
     ) {
-        return new Configurator<>(storage, rootBuilder, null);
+        return new Configurator<>(storage, rootBuilder, null, ForkJoinPool.commonPool());
     }
 
     /**
@@ -80,27 +125,78 @@ public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
         Function<Configurator<CONF>, CONF> rootBuilder,
         INIT init
     ) {
-        return new Configurator<>(storage, rootBuilder, init);
+        return new Configurator<>(storage, rootBuilder, init, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create configurator that notifies property listeners on the given executor.
+     * @param storage Configuration storage.
+     * @param rootBuilder Function, that creates configuration root.
+     * @param init Initial value of the configuration, {@code null} if configuration is not initialized.
+     * @param listenerExecutor Executor that notifies property listeners.
+     * @param <VIEW> VIEW type of the root.
+     * @param <INIT> INIT type of the root.
+     * @param <CHANGE> CHANGE type of the root.
+     * @param <CONF> Type of the root.
+     * @return Configurator.
+     */
+    public static <VIEW, INIT, CHANGE, CONF extends DynamicConfiguration<VIEW, INIT, CHANGE>> Configurator<CONF> create(
+        ConfigurationStorage storage,
+        Function<Configurator<CONF>, CONF> rootBuilder,
+        INIT init,
+        Executor listenerExecutor
+    ) {
+        return new Configurator<>(storage, rootBuilder, init, listenerExecutor);
     }
 
     /**
-     * Constructor.
+     * Constructor. Properties are initialized with the initial value and then with the value from the storage, if
+     * the storage has one. Named configurations saved to the storage are restored, the ones removed from the storage
+     * are removed.
      * @param storage Configuration storage.
      * @param rootBuilder Function, that creates configuration root.
+     * @param init Initial value of the configuration.
+     * @param listenerExecutor Executor that notifies property listeners.
      */
     private <VIEW, INIT, CHANGE, CONF extends DynamicConfiguration<VIEW, INIT, CHANGE>> Configurator(
         ConfigurationStorage storage,
         Function<Configurator<CONF>, CONF> rootBuilder,
-        INIT init
+        INIT init,
+        Executor listenerExecutor
     ) {
         this.storage = storage;
+        this.listeners = new ListenerRegistry(listenerExecutor);
 
         final CONF built = rootBuilder.apply((Configurator<CONF>) this);
 
+        built.registerSelectors(selectors);
+
         if (init != null)
             built.init(init);
 
-        root = (T) built;
+        // Revision is read first, so writes made while values are read are delivered by the watch.
+        final long storageRevision = storage.revision();
+
+        final ChangeScope scope = new ChangeScope();
+
+        final T root = (T) built.copy(scope);
+
+        // Values saved to the storage take precedence over the initial ones.
+        restore(built, root, scope);
+
+        scope.close();
+
+        final List<DynamicProperty<?>> properties = new ArrayList<>();
+
+        collectUpdated(null, root, properties, null, null);
+
+        for (DynamicProperty<?> property : properties)
+            validation.onCommitted(property);
+
+        committed.set(new ConfigurationSnapshot<>(root, 0, storageRevision));
+
+        // Every write of the storage advances its revision, so all writes are watched, including ones of other roots.
+        storage.watch("", storageRevision, this::onStorageEvent);
     }
 
     /**
@@ -115,31 +211,496 @@ public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
     public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> VIEW getPublic(
         Selector<T, TARGET, VIEW, INIT, CHANGE> selector
     ) {
-        return selector.select(root).value();
+        return selector.select(committed.get().root()).value();
     }
 
     /**
+     * Change configuration element selected by the selector. Change is applied to a private copy of the last
+     * committed root, only nodes on the path from the root to changed elements are copied, all other nodes are shared
+     * with the committed root. Copy is validated against that root, saved to the storage with a single write and
+     * published. Validation runs only validators of changed properties and validators that depend on changed
+     * properties.
+     * If another commit or a write of another node is applied in the meantime, the change is re-applied on top of
+     * the new root. Readers are never blocked and never observe a root that hasn't been validated. Listeners of
+     * changed properties are notified asynchronously after the commit.
+     * Changes of conflicting writers may be combined into one commit, see {@link #commit(Consumer)}.
      *
-     * @param selector
-     * @param newValue
-     * @param <TARGET>
-     * @param <VIEW>
-     * @param <INIT>
-     * @param <CHANGE>
-     * @throws ConfigurationValidationException
+     * @param selector Selector of the configuration element.
+     * @param newValue Change.
+     * @param <TARGET> Type of the configuration element.
+     * @param <VIEW> VIEW type.
+     * @param <INIT> INIT type.
+     * @param <CHANGE> CHANGE type.
+     * @throws ConfigurationValidationException If validation failed.
      */
     public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> void set(
         Selector<T, TARGET, VIEW, INIT, CHANGE> selector,
         CHANGE newValue
     ) throws ConfigurationValidationException {
-        // TODO: atomic change start
-        final T copy = (T) root.copy();
+        commit(root -> selector.select(root).changeWithoutValidation(newValue));
+    }
+
+    /**
+     * Change several configuration elements at once. All changes of the batch are applied to one copy of the
+     * committed root, which is validated once and published as a single commit, changed values are saved
+     * to the storage with a single write. Either all changes are committed or none of them.
+     * <pre>
+     * configurator.change(batch -> batch
+     *     .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED, true)
+     *     .set(Selectors.LOCAL_BASELINE_AUTO_ADJUST_TIMEOUT, 1000L));
+     * </pre>
+     *
+     * @param batchBuilder Closure that fills the batch with changes.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    public void change(Consumer<ChangeBatch<T>> batchBuilder) throws ConfigurationValidationException {
+        final ChangeBatch<T> batch = new ChangeBatch<>();
+
+        batchBuilder.accept(batch);
+
+        if (!batch.isEmpty())
+            commit(batch::apply);
+    }
+
+    /**
+     * Commit a change. Change is first committed optimistically, without any lock: if no other commit is published
+     * in the meantime, it's published with a single compare-and-set. Writers that conflict are combined: change is
+     * queued and the writer that holds the combiner lock commits all queued changes as one, applied to a single copy
+     * of the root in arrival order and validated once. If the combined copy is invalid, queued changes are committed
+     * one by one, so every writer gets the result of its own change. Other writers wait on the combiner lock and
+     * return once their change is committed.
+     * @param change Closure that applies change to a copy of the committed root.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    private void commit(Consumer<T> change) throws ConfigurationValidationException {
+        // Changes are combined only while writers conflict, otherwise every writer commits on its own.
+        if (pendingChanges.isEmpty() && !combinerLock.isLocked()) {
+            final ConfigurationSnapshot<T> base = committed.get();
+
+            final CommitResult res = tryCommit(base, change);
+
+            if (res == CommitResult.COMMITTED)
+                return;
+
+            if (res == CommitResult.REJECTED)
+                awaitCommitted(base);
+        }
+
+        final PendingChange<T> pending = new PendingChange<>(change);
+
+        pendingChanges.add(pending);
+
+        combinerLock.lock();
+
+        try {
+            // Change is either committed by the previous combiner or is still queued.
+            if (!pending.done) {
+                final List<PendingChange<T>> batch = new ArrayList<>();
+
+                for (PendingChange<T> next; (next = pendingChanges.poll()) != null; )
+                    batch.add(next);
+
+                commitBatch(batch);
+            }
+        }
+        finally {
+            combinerLock.unlock();
+        }
+
+        if (pending.error instanceof RuntimeException)
+            throw (RuntimeException) pending.error;
+
+        if (pending.error instanceof Error)
+            throw (Error) pending.error;
+    }
+
+    /**
+     * Commit queued changes and complete them. Must be called under the combiner lock.
+     * @param batch Changes in arrival order.
+     */
+    private void commitBatch(List<PendingChange<T>> batch) {
+        if (batch.size() > 1) {
+            try {
+                commitChange(root -> {
+                    for (PendingChange<T> pending : batch)
+                        pending.change.accept(root);
+                });
+
+                for (PendingChange<T> pending : batch)
+                    pending.complete(null);
+
+                return;
+            }
+            catch (RuntimeException ignored) {
+                // Failed change is found by committing changes one by one.
+            }
+        }
+
+        for (PendingChange<T> pending : batch) {
+            try {
+                commitChange(pending.change);
+
+                pending.complete(null);
+            }
+            catch (Throwable e) {
+                pending.complete(e);
+            }
+        }
+    }
+
+    /**
+     * Commit a change. Must be called under the combiner lock. Change is re-applied on top of the new root until it
+     * is committed or fails validation.
+     * @param change Closure that applies change to a copy of the committed root.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    private void commitChange(Consumer<T> change) throws ConfigurationValidationException {
+        while (true) {
+            final ConfigurationSnapshot<T> base = committed.get();
+
+            final CommitResult res = tryCommit(base, change);
+
+            if (res == CommitResult.COMMITTED)
+                return;
+
+            if (res == CommitResult.REJECTED)
+                awaitCommitted(base);
+        }
+    }
+
+    /**
+     * Make one attempt to commit a change. Change is applied to a copy of the base root and validated, then it is
+     * saved to the storage with a write conditional on the storage revision of the base and published with
+     * a compare-and-set. Storage orders writes of all writers, so a write that succeeded is never lost: if the root
+     * has been replaced after the write, only events of later writes could have replaced it, and events are applied
+     * in revision order, so the event of this write has already been applied.
+     * @param base Committed root.
+     * @param change Closure that applies change to a copy of the committed root.
+     * @return Result of the attempt.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    private CommitResult tryCommit(
+        ConfigurationSnapshot<T> base,
+        Consumer<T> change
+    ) throws ConfigurationValidationException {
+        final T copy = apply(base.root(), change);
+
+        final List<DynamicProperty<?>> updated = new ArrayList<>();
+
+        final List<Serializable> oldValues = new ArrayList<>();
+
+        final List<DynamicProperty<?>> removed = new ArrayList<>();
+
+        collectUpdated(base.root(), copy, updated, oldValues, removed);
+
+        // Change has the same values as the committed root.
+        if (updated.isEmpty() && removed.isEmpty())
+            return CommitResult.COMMITTED;
+
+        validation.validate(copy, base.root(), updated, removed);
+
+        // Another commit has been published while the change was validated.
+        if (committed.get() != base)
+            return CommitResult.CONFLICT;
+
+        final Map<String, Serializable> values = new LinkedHashMap<>();
+
+        for (DynamicProperty<?> property : updated)
+            values.put(property.qualifiedName(), property.value());
+
+        // Properties of removed named configurations are saved as tombstones.
+        for (DynamicProperty<?> property : removed)
+            values.put(property.qualifiedName(), null);
+
+        final PreparedCommit<T> prepared = new PreparedCommit<>(base, copy, values, updated, oldValues, removed);
+
+        // Storage may deliver the event of the write before the write returns.
+        writes.add(prepared);
+
+        try {
+            // Storage has writes that haven't been delivered yet.
+            if (!storage.saveAll(values, base.storageRevision()))
+                return CommitResult.REJECTED;
+
+            publish(prepared);
+
+            return CommitResult.COMMITTED;
+        }
+        finally {
+            writes.remove(prepared);
+        }
+    }
+
+    /**
+     * Wait until the committed snapshot is replaced, normally by the storage event that the rejected write missed.
+     * Event is delivered by the thread that made the missed write or by another writer of the storage. Waits no
+     * longer than a short timeout, then the caller retries the write.
+     * @param base Snapshot that the rejected write was based on.
+     */
+    private void awaitCommitted(ConfigurationSnapshot<T> base) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(STORAGE_EVENT_WAIT_TIMEOUT);
+
+        // Waiter is counted before the snapshot is checked, so publisher either sees the waiter or the waiter sees
+        // the new snapshot.
+        committedWaiters.incrementAndGet();
+
+        try {
+            synchronized (committedMux) {
+                final long deadline = System.nanoTime() + nanos;
+
+                while (committed.get() == base && nanos > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(committedMux, nanos);
+
+                    nanos = deadline - System.nanoTime();
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            committedWaiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Apply values written to the storage. Such change is neither validated nor saved. Writes of other roots only
+     * advance the storage revision of the committed snapshot. Events are recognized by revision only: event of
+     * a write of this configurator is skipped if the write has already been published. If it is delivered while the
+     * write is in progress, the prepared commit of the write is published instead of re-applying the values.
+     * @param event Storage event.
+     */
+    private void onStorageEvent(StorageEvent event) {
+        while (true) {
+            final ConfigurationSnapshot<T> base = committed.get();
+
+            if (event.revision() <= base.storageRevision())
+                return;
+
+            final PreparedCommit<T> prepared = prepared(base, event);
+
+            if (prepared != null) {
+                if (publish(prepared))
+                    return;
+
+                continue;
+            }
+
+            final String rootKey = base.root().key();
+
+            boolean own = false;
+
+            for (String key : event.values().keySet())
+                own |= StorageEvent.matches(key, rootKey);
+
+            if (!own) {
+                if (committed.compareAndSet(base, new ConfigurationSnapshot<>(base.root(), base.revision(), event.revision()))) {
+                    signalCommitted();
+
+                    return;
+                }
+
+                continue;
+            }
+
+            final ChangeScope scope = new ChangeScope();
+
+            final T copy = (T) base.root().copy(scope);
+
+            for (Map.Entry<String, Serializable> entry : event.values().entrySet()) {
+                if (StorageEvent.matches(entry.getKey(), rootKey))
+                    applyStored(copy, scope, entry.getKey(), entry.getValue());
+            }
+
+            scope.close();
+
+            final List<DynamicProperty<?>> updated = new ArrayList<>();
+
+            final List<Serializable> oldValues = new ArrayList<>();
+
+            final List<DynamicProperty<?>> removed = new ArrayList<>();
+
+            collectUpdated(base.root(), copy, updated, oldValues, removed);
+
+            if (publish(base, copy, event.revision(), updated, oldValues, removed))
+                return;
+        }
+    }
+
+    /**
+     * Find commit in progress whose write is the one of the event. A commit of some other writer with the same values
+     * would give the same root, so commits are matched by the base, the revision and the values.
+     * @param base Committed root.
+     * @param event Storage event.
+     * @return Prepared commit or {@code null} if there's none.
+     */
+    private PreparedCommit<T> prepared(ConfigurationSnapshot<T> base, StorageEvent event) {
+        for (PreparedCommit<T> prepared : writes) {
+            if (prepared.base == base && base.storageRevision() + 1 == event.revision() &&
+                prepared.values.equals(event.values()))
+                return prepared;
+        }
+
+        return null;
+    }
+
+    /**
+     * Apply change to a copy of the root.
+     * @param root Committed root.
+     * @param change Change.
+     * @return Changed copy.
+     */
+    private T apply(T root, Consumer<T> change) {
+        final ChangeScope scope = new ChangeScope();
 
-        final TARGET select = selector.select(copy);
-        select.changeWithoutValidation(newValue);
-        copy.validate(root);
-        selector.select(root).changeWithoutValidation(newValue);
-        // TODO: atomic change end
+        final T copy = (T) root.copy(scope);
+
+        change.accept(copy);
+
+        scope.close();
+
+        return copy;
+    }
+
+    /**
+     * Apply values saved to the storage to the subtree. Properties are read by their keys. Names of named
+     * configurations aren't known in advance, so each named list is read with a single scan of its subtree.
+     * @param node Node of the initial tree.
+     * @param root Root being restored.
+     * @param scope Change scope of the root.
+     */
+    private void restore(DynamicConfiguration<?, ?, ?> node, T root, ChangeScope scope) {
+        for (ConfigurationProperty<?, ?> member : node.members().values()) {
+            if (member instanceof NamedListConfiguration) {
+                final String prefix = ((NamedListConfiguration<?, ?, ?, ?>) member).qualifiedName();
+
+                for (Map.Entry<String, Serializable> entry : storage.getAll(prefix).entrySet()) {
+                    try {
+                        applyStored(root, scope, entry.getKey(), entry.getValue());
+                    }
+                    catch (SelectorNotFoundException ignored) {
+                        // Property was removed from the schema.
+                    }
+                }
+            }
+            else if (member instanceof DynamicConfiguration)
+                restore((DynamicConfiguration<?, ?, ?>) member, root, scope);
+            else {
+                final String name = ((DynamicProperty<?>) member).qualifiedName();
+
+                final Serializable value = storage.get(name);
+
+                if (value != null)
+                    applyStored(root, scope, name, value);
+            }
+        }
+    }
+
+    /**
+     * Apply value read from the storage to a copy of the root. Missing named configurations on the path to the
+     * property are created, {@code null} value of a property of a named configuration removes the configuration.
+     * @param root Copy of the root.
+     * @param scope Change scope of the copy.
+     * @param key Fully qualified name of the property.
+     * @param value Value.
+     */
+    private void applyStored(DynamicConfiguration<?, ?, ?> root, ChangeScope scope, String key, Serializable value) {
+        // Named configurations on the path, from the outermost one.
+        for (int end = key.indexOf(']'); end != -1; ) {
+            final int start = key.lastIndexOf('[', end);
+            final int next = key.indexOf(']', end + 1);
+
+            // Selecting named configuration copies its list into the scope.
+            final boolean exists = selectors.find(key.substring(0, end + 1)).select(root) != null;
+
+            if (value == null) {
+                // Tombstones of the other properties may have removed the configuration already.
+                if (!exists)
+                    return;
+
+                if (next == -1) {
+                    scope.namedList(key.substring(0, start)).remove(key.substring(start + 1, end));
+
+                    return;
+                }
+            }
+            else if (!exists)
+                scope.namedList(key.substring(0, start)).getOrCreate(key.substring(start + 1, end));
+
+            end = next;
+        }
+
+        selectors.<DynamicConfiguration<?, ?, ?>, DynamicProperty<Serializable>, Serializable, Serializable, Serializable>find(key)
+            .select(root)
+            .changeWithoutValidation(value);
+    }
+
+    /**
+     * Publish commit whose write to the storage has succeeded.
+     * @param prepared Prepared commit.
+     * @return {@code true} if commit was published, {@code false} if root has been replaced, which means that the
+     *      event of the write has been applied already.
+     */
+    private boolean publish(PreparedCommit<T> prepared) {
+        return publish(
+            prepared.base,
+            prepared.copy,
+            prepared.base.storageRevision() + 1,
+            prepared.updated,
+            prepared.oldValues,
+            prepared.removed
+        );
+    }
+
+    /**
+     * Publish new root if the committed root is still the base one.
+     * @param base Root that the new root is based on.
+     * @param copy New root.
+     * @param storageRevision Revision of the storage that new root corresponds to.
+     * @param updated Updated properties.
+     * @param oldValues Previous values of updated properties.
+     * @param removed Properties of removed named configurations.
+     * @return {@code true} if root was published, {@code false} if committed root has been replaced.
+     */
+    private boolean publish(
+        ConfigurationSnapshot<T> base,
+        T copy,
+        long storageRevision,
+        List<DynamicProperty<?>> updated,
+        List<Serializable> oldValues,
+        List<DynamicProperty<?>> removed
+    ) {
+        final ConfigurationSnapshot<T> next = new ConfigurationSnapshot<>(copy, base.revision() + 1, storageRevision);
+
+        if (!committed.compareAndSet(base, next))
+            return false;
+
+        signalCommitted();
+
+        for (DynamicProperty<?> property : updated)
+            validation.onCommitted(property);
+
+        for (DynamicProperty<?> property : removed) {
+            validation.onRemoved(property);
+
+            listeners.onRemoved(property);
+        }
+
+        for (int i = 0; i < updated.size(); i++)
+            listeners.notify(next.revision(), oldValues.get(i), (DynamicProperty<Serializable>) updated.get(i));
+
+        return true;
+    }
+
+    /**
+     * Wake up writers waiting for the committed snapshot to be replaced.
+     */
+    private void signalCommitted() {
+        if (committedWaiters.get() > 0) {
+            synchronized (committedMux) {
+                committedMux.notifyAll();
+            }
+        }
     }
 
     /**
@@ -154,31 +715,50 @@ public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
     public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> ConfigurationProperty<VIEW, CHANGE> getInternal(
         Selector<T, TARGET, VIEW, INIT, CHANGE> selector
     ) {
-        return selector.select(root);
+        return selector.select(committed.get().root());
     }
 
     /**
-     *
-     * @param aClass
-     * @param key
-     * @param validators
-     * @param <PROP>
-     */
-    public <PROP extends Serializable> void addValidations(
-        Class<? extends ConfigurationTree<?, ?>> aClass,
-        String key,
-        List<FieldValidator<? super PROP, ? extends ConfigurationTree<?, ?>>> validators
+     * Get selector by name, like {@code local.baseline.nodes[node1].port}.
+     * @param name Selector name.
+     * @param <TARGET> Type of the configuration element.
+     * @param <VIEW> VIEW type.
+     * @param <INIT> INIT type.
+     * @param <CHANGE> CHANGE type.
+     * @return Selector.
+     * @throws SelectorNotFoundException If root has no such selector.
+     */
+    public <TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> Selector<T, TARGET, VIEW, INIT, CHANGE> find(
+        String name
     ) {
-        fieldValidators.put(new MemberKey(aClass, key), (List) validators);
+        return selectors.find(name);
+    }
+
+    /**
+     * Get selector registry of the root, e.g. to list selector keys by prefix.
+     * @return Selector registry.
+     */
+    public SelectorRegistry selectors() {
+        return selectors;
+    }
+
+    /**
+     * Set number of properties validated by a commit starting from which validation runs in parallel on the common
+     * fork-join pool. Default is {@link ValidationRegistry#DFLT_PARALLEL_THRESHOLD}.
+     * @param threshold Threshold.
+     */
+    public void parallelValidationThreshold(int threshold) {
+        validation.parallelThreshold(threshold);
     }
 
     /**
-     * Get all validators for given member key (class + field).
+     * Register validation of configuration member. Only the first registration of the member has effect.
      * @param key Member key.
-     * @return Validators.
+     * @param dependencies Qualified names of elements that member validation depends on, {@code null} if member has
+     *      to be validated on every change.
      */
-    public List<FieldValidator<? extends Serializable, T>> validators(MemberKey key) {
-        return fieldValidators.getOrDefault(key, Collections.emptyList());
+    public void addValidation(MemberKey key, Collection<String> dependencies) {
+        validation.register(key, dependencies);
     }
 
     /**
@@ -186,22 +766,215 @@ public class Configurator<T extends DynamicConfiguration<?, ?, ?>> {
      * @return Configuration root.
      */
     public T getRoot() {
-        return root;
+        return committed.get().root();
+    }
+
+    /**
+     * Get last committed root together with its revision. All reads made through the snapshot see the same
+     * revision. Snapshot is the one published by the last commit, so taking it costs a single volatile read.
+     * @return Snapshot.
+     */
+    public ConfigurationSnapshot<T> snapshot() {
+        return committed.get();
+    }
+
+    /**
+     * Get revision of the last committed configuration root.
+     * @return Revision, {@code 0} for the initial root.
+     */
+    public long revision() {
+        return committed.get().revision();
+    }
+
+    /**
+     * Add listener of the property.
+     * @param key Qualified name of the property.
+     * @param listener Listener.
+     */
+    public void addListener(String key, PropertyListener<?, ?> listener) {
+        listeners.add(key, listener);
+    }
+
+    /**
+     * Remove listener of the property.
+     * @param key Qualified name of the property.
+     * @param listener Listener.
+     * @return {@code true} if listener was registered.
+     */
+    public boolean removeListener(String key, PropertyListener<?, ?> listener) {
+        return listeners.remove(key, listener);
+    }
+
+    /**
+     * Get number of property listeners.
+     * @param key Qualified name of the property.
+     * @return Number of listeners.
+     */
+    public int listenerCount(String key) {
+        return listeners.count(key);
+    }
+
+    /**
+     * Get number of properties that have listeners.
+     * @return Number of properties.
+     */
+    public int listenedProperties() {
+        return listeners.size();
     }
 
     /**
-     * Execute on property attached to configurator.
-     * @param property Property.
-     * @param <PROP> Type of the property.
+     * Collect properties whose values are not equal between old and new roots. Only subtrees that were copied by the change
+     * are visited, named lists visit only named configurations that were added, changed or removed.
+     * @param oldNode Configuration node from the previous root, {@code null} if node is new.
+     * @param newNode Configuration node from the committed root.
+     * @param updated Collection to add changed properties to.
+     * @param oldValues Collection to add previous values of changed properties to, {@code null} if not needed.
+     * @param removed Collection to add properties of removed named configurations to, {@code null} if nothing can
+     *      be removed.
      */
-    public <PROP extends Serializable> void onAttached(DynamicProperty<PROP> property) {
-        final String key = property.key();
-        property.addListener(new PropertyListener<PROP, PROP>() {
-            /** {@inheritDoc} */
-            public void update(PROP newValue, ConfigurationProperty<PROP, PROP> modifier) {
-                storage.save(key, newValue);
+    private static void collectUpdated(
+        ConfigurationProperty<?, ?> oldNode,
+        ConfigurationProperty<?, ?> newNode,
+        List<DynamicProperty<?>> updated,
+        List<Serializable> oldValues,
+        List<DynamicProperty<?>> removed
+    ) {
+        // Node is shared between roots, so nothing has changed in its subtree.
+        if (oldNode == newNode)
+            return;
+
+        if (newNode instanceof DynamicProperty) {
+            // Values are compared by value, so re-applied configuration neither notifies listeners nor is saved.
+            if (oldNode == null || !Objects.equals(oldNode.value(), newNode.value())) {
+                updated.add((DynamicProperty<?>) newNode);
+
+                if (oldValues != null)
+                    oldValues.add(oldNode == null ? null : (Serializable) oldNode.value());
             }
-        });
-        storage.listen(key, property::setSilently);
+        }
+        else if (newNode instanceof NamedListConfiguration) {
+            ((NamedListConfiguration) newNode).diff((NamedListConfiguration) oldNode, (oldEntry, newEntry) -> {
+                if (newEntry == null)
+                    collectRemoved((ConfigurationProperty<?, ?>) oldEntry, removed);
+                else
+                    collectUpdated((ConfigurationProperty<?, ?>) oldEntry, (ConfigurationProperty<?, ?>) newEntry, updated, oldValues, removed);
+            });
+        }
+        else if (newNode instanceof ConfigurationTree) {
+            final Map<String, ConfigurationProperty<?, ?>> oldMembers = oldNode == null ?
+                Collections.emptyMap() : ((ConfigurationTree<?, ?>) oldNode).members();
+
+            for (Map.Entry<String, ConfigurationProperty<?, ?>> entry : ((ConfigurationTree<?, ?>) newNode).members().entrySet())
+                collectUpdated(oldMembers.get(entry.getKey()), entry.getValue(), updated, oldValues, removed);
+        }
+    }
+
+    /**
+     * Collect all properties of the removed node.
+     * @param node Removed node.
+     * @param removed Collection to add properties to.
+     */
+    private static void collectRemoved(ConfigurationProperty<?, ?> node, List<DynamicProperty<?>> removed) {
+        if (node instanceof DynamicProperty)
+            removed.add((DynamicProperty<?>) node);
+        else if (node instanceof ConfigurationTree) {
+            for (ConfigurationProperty<?, ?> member : ((ConfigurationTree<?, ?>) node).members().values())
+                collectRemoved(member, removed);
+        }
+    }
+
+    /**
+     * Change queued for the combiner.
+     * @param <T> Type of configuration root.
+     */
+    private static final class PendingChange<T> {
+        /** Closure that applies change to a copy of the committed root. */
+        private final Consumer<T> change;
+
+        /** Failure of the change, {@code null} if change is committed or not completed yet. */
+        private Throwable error;
+
+        /** Whether change is completed. Written and read under the combiner lock. */
+        private boolean done;
+
+        /**
+         * Constructor.
+         * @param change Closure that applies change to a copy of the committed root.
+         */
+        private PendingChange(Consumer<T> change) {
+            this.change = change;
+        }
+
+        /**
+         * Complete the change.
+         * @param error Failure of the change, {@code null} if change is committed.
+         */
+        private void complete(Throwable error) {
+            this.error = error;
+            this.done = true;
+        }
+    }
+
+    /**
+     * Result of a commit attempt.
+     */
+    private enum CommitResult {
+        /** Change is committed or changes nothing. */
+        COMMITTED,
+
+        /** Another commit was published while the change was validated. */
+        CONFLICT,
+
+        /** Storage rejected the write, because it has writes that haven't been applied yet. */
+        REJECTED
+    }
+
+    /**
+     * Validated commit whose write to the storage is in progress.
+     * @param <T> Type of configuration root.
+     */
+    private static final class PreparedCommit<T extends DynamicConfiguration<?, ?, ?>> {
+        /** Committed root that the commit is based on. */
+        private final ConfigurationSnapshot<T> base;
+
+        /** New root. */
+        private final T copy;
+
+        /** Values written to the storage. */
+        private final Map<String, Serializable> values;
+
+        /** Updated properties. */
+        private final List<DynamicProperty<?>> updated;
+
+        /** Previous values of updated properties. */
+        private final List<Serializable> oldValues;
+
+        /** Properties of removed named configurations. */
+        private final List<DynamicProperty<?>> removed;
+
+        /**
+         * Constructor.
+         * @param base Committed root that the commit is based on.
+         * @param copy New root.
+         * @param values Values written to the storage.
+         * @param updated Updated properties.
+         * @param oldValues Previous values of updated properties.
+         * @param removed Properties of removed named configurations.
+         */
+        private PreparedCommit(
+            ConfigurationSnapshot<T> base,
+            T copy,
+            Map<String, Serializable> values,
+            List<DynamicProperty<?>> updated,
+            List<Serializable> oldValues,
+            List<DynamicProperty<?>> removed
+        ) {
+            this.base = base;
+            this.copy = copy;
+            this.values = values;
+            this.updated = updated;
+            this.oldValues = oldValues;
+            this.removed = removed;
+        }
     }
 }
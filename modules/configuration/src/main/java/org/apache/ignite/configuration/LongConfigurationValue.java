@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration;
+
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+
+/**
+ * Configuration value of a long type that can be read and changed without boxing.
+ */
+public interface LongConfigurationValue extends ConfigurationValue<Long> {
+    /**
+     * Get value of this property.
+     * @return Value of this property, {@code 0L} if value is not set.
+     */
+    long longValue();
+
+    /**
+     * Change value of this property.
+     * @param change New value.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    void change(long change) throws ConfigurationValidationException;
+}
@@ -20,19 +20,21 @@ package org.apache.ignite.configuration;
 import java.io.Serializable;
 
 /**
- * Configuration property change listener.
+ * Configuration property change listener. Listeners are notified asynchronously after the change is committed, updates
+ * of one property are delivered in commit order. A listener that falls behind receives only the latest value.
  *
  * @param <VIEW> VIEW type of property.
  * @param <CHANGE> CHANGE type of property.
  */
 public interface PropertyListener<VIEW extends Serializable, CHANGE extends Serializable> {
     /**
-     * Called before property value is updated.
+     * Called before listener is notified about property value update. Change is already committed at this point,
+     * validators should be used to reject it.
      *
-     * @param oldValue Previous value.
+     * @param oldValue Previous value, last value delivered to the listener or {@code null} if property is new.
      * @param newValue New value.
      * @param modifier Property itself.
-     * @return {@code true} if changes are approved and {@code false} then property update must be aborted.
+     * @return {@code true} if listener should be notified and {@code false} if update must be skipped.
      */
     default boolean beforeUpdate(VIEW oldValue, VIEW newValue, ConfigurationProperty<VIEW, CHANGE> modifier) {
         return true;
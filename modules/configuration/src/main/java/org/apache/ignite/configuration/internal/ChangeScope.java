@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scope of a single configuration change. Nodes copied within an active scope belong to it and may be modified in
+ * place, all other nodes are shared with committed roots and are copied on first access from a node of the scope, so
+ * a change copies only the path from the changed element to the root. Once the scope is closed, all of its nodes are
+ * immutable.
+ */
+public final class ChangeScope {
+    /** {@code true} until the scope is closed. */
+    private boolean active = true;
+
+    /** Named lists copied within the scope by qualified names, created on first copy. */
+    private Map<String, NamedListConfiguration<?, ?, ?, ?>> namedLists;
+
+    /**
+     * @return {@code true} if nodes of this scope may still be modified.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Close the scope, making its nodes immutable.
+     */
+    public void close() {
+        active = false;
+    }
+
+    /**
+     * Register named list copied within the scope.
+     * @param list Named list.
+     */
+    void onCopied(NamedListConfiguration<?, ?, ?, ?> list) {
+        if (namedLists == null)
+            namedLists = new HashMap<>();
+
+        namedLists.put(list.qualifiedName, list);
+    }
+
+    /**
+     * Get named list copied within the scope. Named lists are selected through their elements, so an element has
+     * to be selected first to make its list a part of the scope.
+     * @param qualifiedName Qualified name of the list.
+     * @return Named list or {@code null} if the list was not copied within the scope.
+     */
+    public NamedListConfiguration<?, ?, ?, ?> namedList(String qualifiedName) {
+        return namedLists == null ? null : namedLists.get(qualifiedName);
+    }
+}
@@ -17,17 +17,16 @@
 
 package org.apache.ignite.configuration.internal;
 
-import java.io.Serializable;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.apache.ignite.configuration.ConfigurationProperty;
 import org.apache.ignite.configuration.ConfigurationTree;
 import org.apache.ignite.configuration.Configurator;
-import org.apache.ignite.configuration.internal.selector.BaseSelectors;
+import org.apache.ignite.configuration.internal.selector.Selector;
+import org.apache.ignite.configuration.internal.selector.SelectorRegistry;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
-import org.apache.ignite.configuration.validation.FieldValidator;
 
 /**
  * This class represents configuration root or node.
@@ -42,11 +41,11 @@ public abstract class DynamicConfiguration<VIEW, INIT, CHANGE> implements Modifi
     /** Configuration prefix. */
     protected final String prefix;
 
-    /** Configuration members (leaves and nodes). */
-    protected final Map<String, Modifier<?, ?, ?>> members = new HashMap<>();
+    /** Configuration members (leaves and nodes) in the order they were added. */
+    protected final Map<String, Modifier<?, ?, ?>> members = new LinkedHashMap<>();
 
-    /** Root configuration node. */
-    protected final DynamicConfiguration<?, ?, ?> root;
+    /** Read-only view of the members, created once per node. */
+    private final Map<String, ConfigurationProperty<?, ?>> membersView = Collections.unmodifiableMap(members);
 
     /** {@code true} if this is a member of {@link NamedListConfiguration}. */
     protected final boolean isNamed;
@@ -54,36 +53,57 @@ public abstract class DynamicConfiguration<VIEW, INIT, CHANGE> implements Modifi
     /** Configurator that this configuration is attached to. */
     protected final Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator;
 
+    /** Change scope this node belongs to, {@code null} if node was not created by a change. */
+    protected final ChangeScope scope;
+
+    /** Selector of this node, resolved on first change and shared with copies. */
+    private Selector<?, ?, ?, ?, ?> selector;
+
+    /** Cached view of this node. Committed nodes are never modified, so view is built once per node. */
+    private volatile VIEW view;
+
     /**
      * Constructor.
-     * @param prefix Configuration prefix.
+     * @param prefix Configuration prefix, empty for the configuration root.
      * @param key Configuration key.
      * @param isNamed Is this a part of named configuration.
      * @param configurator Configurator that this object is attached to.
-     * @param root Root configuration.
      */
     protected DynamicConfiguration(
         String prefix,
         String key,
         boolean isNamed,
-        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
     ) {
         this.prefix = prefix;
         this.isNamed = isNamed;
         this.configurator = configurator;
+        this.scope = null;
 
         this.key = key;
-        if (root == null)
+        if (prefix.isEmpty())
             this.qualifiedName = key;
         else {
             if (isNamed)
-                qualifiedName = String.format("%s[%s]", prefix, key);
+                qualifiedName = prefix + '[' + key + ']';
             else
-                qualifiedName = String.format("%s.%s", prefix, key);
+                qualifiedName = prefix + '.' + key;
         }
+    }
 
-        this.root = root != null ? root : this;
+    /**
+     * Copy constructor. Members are not copied, subclasses share them with the base node.
+     * @param base Configuration to copy from.
+     * @param scope Change scope of the copy.
+     */
+    protected DynamicConfiguration(DynamicConfiguration<VIEW, INIT, CHANGE> base, ChangeScope scope) {
+        this.prefix = base.prefix;
+        this.key = base.key;
+        this.qualifiedName = base.qualifiedName;
+        this.isNamed = base.isNamed;
+        this.configurator = base.configurator;
+        this.scope = scope;
+        this.selector = base.selector;
     }
 
     /**
@@ -96,55 +116,128 @@ public abstract class DynamicConfiguration<VIEW, INIT, CHANGE> implements Modifi
     }
 
     /**
-     * Add new configuration member with validators.
+     * Add new configuration member with validation.
      * @param member Configuration member (leaf or node).
-     * @param validators Validators for new member.
-     * @param <PROP> Type of {@link DynamicProperty}.
+     * @param dependencies Qualified names of elements that member validation depends on, {@code null} if member has
+     *      to be validated on every change.
      * @param <M> Type of member.
      */
-    protected <PROP extends Serializable, M extends DynamicProperty<PROP>> void add(
-        M member,
-        List<FieldValidator<? super PROP, ? extends ConfigurationTree<?, ?>>> validators
-    ) {
+    protected <M extends DynamicProperty<?>> void add(M member, Collection<String> dependencies) {
         members.put(member.key(), member);
 
-        configurator.addValidations((Class<? extends ConfigurationTree<?, ?>>) getClass(), member.key(), validators);
+        configurator.addValidation(member.memberKey(), dependencies);
     }
 
     /** {@inheritDoc} */
     @Override public void change(CHANGE change) throws ConfigurationValidationException {
-        configurator.set(BaseSelectors.find(qualifiedName), change);
+        Selector<?, ?, ?, ?, ?> selector = this.selector;
+
+        if (selector == null)
+            this.selector = selector = configurator.find(qualifiedName);
+
+        configurator.set((Selector) selector, change);
     }
 
+    /**
+     * Get view of this node. View is cached unless node belongs to an active change, a change copies the node
+     * together with its ancestors, so only views on the changed path are rebuilt.
+     * @return View.
+     */
+    @Override public final VIEW value() {
+        VIEW view = this.view;
+
+        if (view == null) {
+            view = createView();
+
+            if (!isWritable())
+                this.view = view;
+        }
+
+        return view;
+    }
+
+    /**
+     * Create view of this node.
+     * @return View.
+     */
+    protected abstract VIEW createView();
+
     /** {@inheritDoc} */
     @Override public String key() {
         return key;
     }
 
     /**
-     * Create a deep copy of this DynamicConfiguration, but attaching it to another configuration root.
-     * @param root New configuration root.
-     * @return Copy of this configuration.
+     * Get fully qualified name of this node.
+     * @return Fully qualified name.
      */
-    public abstract DynamicConfiguration<VIEW, INIT, CHANGE> copy(DynamicConfiguration<?, ?, ?> root);
+    public String qualifiedName() {
+        return qualifiedName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public abstract DynamicConfiguration<VIEW, INIT, CHANGE> copy(ChangeScope scope);
+
+    /** {@inheritDoc} */
+    @Override public ChangeScope scope() {
+        return scope;
+    }
 
     /**
-     * Create a deep copy of this DynamicConfiguration, making it root configuration (so this method must be called
-     * only on root configuration object).
-     * @return Copy of this configuration.
+     * Check whether members of this node are copied on access.
+     * @return {@code true} if this node belongs to an active change scope.
      */
-    public final DynamicConfiguration<VIEW, INIT, CHANGE> copy() {
-        return copy(null);
+    protected final boolean isWritable() {
+        return scope != null && scope.isActive();
+    }
+
+    /**
+     * Get member that may be modified within the scope of this node. Member shared with committed configuration
+     * is replaced with its copy. Must be called only if {@link #isWritable()} is {@code true}.
+     * @param member Configuration member.
+     * @param <M> Type of member.
+     * @return Member itself or its copy.
+     */
+    protected final <M extends Modifier<?, ?, ?>> M writable(M member) {
+        if (member.scope() == scope)
+            return member;
+
+        final M copy = (M) member.copy(scope);
+
+        members.put(copy.key(), copy);
+
+        return copy;
     }
 
     /** {@inheritDoc} */
-    @Override public void validate(DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException {
+    @Override public void validate(DynamicConfiguration<?, ?, ?> newRoot, DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException {
         for (Modifier<?, ?, ?> member : members.values())
-            member.validate(oldRoot);
+            member.validate(newRoot, oldRoot);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Register selectors of this root, generated for root nodes only.
+     * @param registry Selector registry of the configurator.
+     */
+    public void registerSelectors(SelectorRegistry registry) {
+        // No-op.
+    }
+
+    /**
+     * Get member by key.
+     * @param key Member key (or name for named configurations).
+     * @return Member or {@code null} if there's no such member.
+     */
+    public Modifier<?, ?, ?> member(String key) {
+        return members.get(key);
+    }
+
+    /**
+     * Get members of this node. Returned map is a read-only view backed by the node, members of committed nodes are
+     * never modified, so the view can be iterated while other threads commit changes.
+     * @return Members in the order they were added.
+     */
     @Override public Map<String, ConfigurationProperty<?, ?>> members() {
-        return members.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return membersView;
     }
 }
@@ -18,15 +18,13 @@
 package org.apache.ignite.configuration.internal;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.configuration.Configurator;
 import org.apache.ignite.configuration.PropertyListener;
-import org.apache.ignite.configuration.internal.selector.BaseSelectors;
+import org.apache.ignite.configuration.internal.selector.Selector;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
-import org.apache.ignite.configuration.validation.FieldValidator;
 import org.apache.ignite.configuration.internal.validation.MemberKey;
+import org.apache.ignite.configuration.internal.validation.PropertyValidator;
 
 /**
  * Holder for property value. Expected to be used with numbers, strings and other immutable objects, e.g. IP addresses.
@@ -42,16 +40,19 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
     private final String qualifiedName;
 
     /** Property value. */
-    protected volatile T val;
-
-    /** Listeners of property update. */
-    private final List<PropertyListener<T, T>> updateListeners = new ArrayList<>();
+    private volatile T val;
 
     /** Configurator that this configuration is attached to. */
     protected final Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator;
 
-    /** Configuration root. */
-    protected final DynamicConfiguration<?, ?, ?> root;
+    /** Change scope this property belongs to, {@code null} if property was not created by a change. */
+    private final ChangeScope scope;
+
+    /** Validator of this property, {@code null} if property is not validated. */
+    private final PropertyValidator<?> validator;
+
+    /** Selector of this property, resolved on first change and shared with copies. */
+    private Selector<?, ?, ?, ?, ?> selector;
 
     /**
      * Constructor.
@@ -59,16 +60,32 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
      * @param name Property name.
      * @param memberKey Property member key.
      * @param configurator Configurator to attach to.
-     * @param root Configuration root.
+     */
+    public DynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
+    ) {
+        this(prefix, name, memberKey, null, configurator);
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param configurator Configurator to attach to.
+     * @param validator Property validator.
      */
     public DynamicProperty(
         String prefix,
         String name,
         MemberKey memberKey,
         Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root
+        PropertyValidator<? super DynamicProperty<T>> validator
     ) {
-        this(prefix, name, memberKey, null, configurator, root);
+        this(name, memberKey, prefix + '.' + name, configurator, null, validator);
     }
 
     /**
@@ -78,66 +95,75 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
      * @param memberKey Property member key.
      * @param defaultValue Default value for the property.
      * @param configurator Configurator to attach to.
-     * @param root Configuration root.
      */
     public DynamicProperty(
         String prefix,
         String name,
         MemberKey memberKey,
         T defaultValue,
-        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
     ) {
-        this(defaultValue, name, memberKey, String.format("%s.%s", prefix, name), configurator, root, false);
+        this(name, memberKey, prefix + '.' + name, configurator, null, null);
+
+        assign(defaultValue);
     }
 
     /**
      * Copy constructor.
      * @param base Property to copy from.
-     * @param root Configuration root.
+     * @param scope Change scope of the copy.
      */
-    private DynamicProperty(
+    protected DynamicProperty(
         DynamicProperty<T> base,
-        DynamicConfiguration<?, ?, ?> root
+        ChangeScope scope
     ) {
-        this(base.val, base.name, base.memberKey, base.qualifiedName, base.configurator, root, true);
+        this(base.name, base.memberKey, base.qualifiedName, base.configurator, scope, base.validator);
+
+        this.selector = base.selector;
+
+        assign(base.val);
     }
 
     /**
      * Constructor.
-     * @param value Property value.
      * @param name Property name.
      * @param memberKey Member key.
      * @param qualifiedName Fully qualified name of the property.
      * @param configurator Configurator.
-     * @param root Configuration root.
+     * @param scope Change scope, {@code null} if property is not a copy.
+     * @param validator Property validator, {@code null} if property is not validated.
      */
     private DynamicProperty(
-        T value,
         String name,
         MemberKey memberKey,
         String qualifiedName,
         Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root,
-        boolean isCopy
+        ChangeScope scope,
+        PropertyValidator<?> validator
     ) {
         this.name = name;
         this.memberKey = memberKey;
         this.qualifiedName = qualifiedName;
-        this.val = value;
         this.configurator = configurator;
-        this.root = root;
-
-        if (isCopy)
-            configurator.onAttached(this);
+        this.scope = scope;
+        this.validator = validator;
     }
 
     /**
-     * Add change listener to this property.
+     * Add change listener to this property. Listener stays registered after the property is replaced by a commit.
      * @param listener Property change listener.
      */
     public void addListener(PropertyListener<T, T> listener) {
-        updateListeners.add(listener);
+        configurator.addListener(qualifiedName, listener);
+    }
+
+    /**
+     * Remove change listener of this property.
+     * @param listener Property change listener.
+     * @return {@code true} if listener was registered.
+     */
+    public boolean removeListener(PropertyListener<T, T> listener) {
+        return configurator.removeListener(qualifiedName, listener);
     }
 
     /** {@inheritDoc} */
@@ -147,28 +173,38 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
 
     /** {@inheritDoc} */
     @Override public void change(T object) throws ConfigurationValidationException {
-        configurator.set(BaseSelectors.find(qualifiedName), object);
+        Selector<?, ?, ?, ?, ?> selector = this.selector;
+
+        if (selector == null)
+            this.selector = selector = configurator.find(qualifiedName);
+
+        configurator.set((Selector) selector, object);
     }
 
     /** {@inheritDoc} */
     @Override public void init(T object) throws ConfigurationValidationException {
-        this.val = object;
+        assign(object);
     }
 
     /** {@inheritDoc} */
     @Override public void changeWithoutValidation(T object) {
-        this.val = object;
+        assign(object);
+    }
 
-        for (PropertyListener<T, T> listener : updateListeners)
-            listener.update(object, this);
+    /**
+     * Set value of this property. Every value of the property, including default and copied ones, is set through
+     * this method, so primitive-specialized properties override it to keep an unboxed copy of the value. Method is
+     * called from constructors, so overrides must only assign fields that have no initializers.
+     * @param value New value.
+     */
+    protected void assign(T value) {
+        this.val = value;
     }
 
     /** {@inheritDoc} */
-    @Override public void validate(DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException {
-        final List<? extends FieldValidator<? extends Serializable, ? extends DynamicConfiguration<?, ?, ?>>> validators = configurator.validators(memberKey);
-
-        for (FieldValidator<? extends Serializable, ? extends DynamicConfiguration<?, ?, ?>> validator : validators)
-            ((FieldValidator<T, DynamicConfiguration<?, ?, ?>>) validator).validate(val, root, oldRoot);
+    @Override public void validate(DynamicConfiguration<?, ?, ?> newRoot, DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException {
+        if (validator != null)
+            ((PropertyValidator<DynamicProperty<T>>) validator).validate(this, newRoot, oldRoot);
     }
 
     /** {@inheritDoc} */
@@ -176,6 +212,14 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
         return name;
     }
 
+    /**
+     * Get member key of this property.
+     * @return Member key.
+     */
+    public MemberKey memberKey() {
+        return memberKey;
+    }
+
     /**
      * Get fully qualified name of this property.
      * @return Fully qualified name.
@@ -184,20 +228,13 @@ public class DynamicProperty<T extends Serializable> implements Modifier<T, T, T
         return qualifiedName;
     }
 
-    public void setSilently(T serializable) {
-        val = serializable;
-
-        for (PropertyListener<T, T> listener : updateListeners)
-            listener.update(val, this);
+    /** {@inheritDoc} */
+    @Override public DynamicProperty<T> copy(ChangeScope scope) {
+        return new DynamicProperty<>(this, scope);
     }
 
-    /**
-     * Create a deep copy of this DynamicProperty, but attaching it to another configuration root.
-     * @param newRoot New configuration root.
-     * @return Copy of this property.
-     */
-    public DynamicProperty<T> copy(DynamicConfiguration<?, ?, ?> newRoot) {
-        return new DynamicProperty<>(this, newRoot);
+    /** {@inheritDoc} */
+    @Override public ChangeScope scope() {
+        return scope;
     }
-
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.internal;
+
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.IntConfigurationValue;
+import org.apache.ignite.configuration.internal.validation.MemberKey;
+import org.apache.ignite.configuration.internal.validation.PropertyValidator;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+
+/**
+ * Holder for an int property value. Value is kept unboxed, so {@link #intValue()} doesn't unbox on every read.
+ */
+public class IntDynamicProperty extends DynamicProperty<Integer> implements IntConfigurationValue {
+    /** Unboxed property value. */
+    private volatile int intVal;
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param configurator Configurator to attach to.
+     */
+    public IntDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
+    ) {
+        super(prefix, name, memberKey, configurator);
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param configurator Configurator to attach to.
+     * @param validator Property validator.
+     */
+    public IntDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
+        PropertyValidator<? super IntDynamicProperty> validator
+    ) {
+        super(prefix, name, memberKey, configurator, (PropertyValidator) validator);
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param defaultValue Default value for the property.
+     * @param configurator Configurator to attach to.
+     */
+    public IntDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        int defaultValue,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
+    ) {
+        super(prefix, name, memberKey, defaultValue, configurator);
+    }
+
+    /**
+     * Copy constructor.
+     * @param base Property to copy from.
+     * @param scope Change scope of the copy.
+     */
+    private IntDynamicProperty(IntDynamicProperty base, ChangeScope scope) {
+        super(base, scope);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int intValue() {
+        return intVal;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void change(int change) throws ConfigurationValidationException {
+        change((Integer) change);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void assign(Integer value) {
+        super.assign(value);
+
+        this.intVal = value == null ? 0 : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IntDynamicProperty copy(ChangeScope scope) {
+        return new IntDynamicProperty(this, scope);
+    }
+}
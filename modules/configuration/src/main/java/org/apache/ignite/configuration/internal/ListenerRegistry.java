@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.internal;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import org.apache.ignite.configuration.PropertyListener;
+
+/**
+ * Registry of property listeners. Listeners are registered by the qualified name of the property rather than on the
+ * property object, so they survive commits that replace the property with its copy. The registry holds at most one
+ * entry per property, entry is removed together with its last listener or together with the named configuration
+ * that the property belongs to.
+ * <p>
+ * Listeners are notified on the executor after the change is committed, so writers never wait for them. Updates of
+ * one property are delivered to each listener in commit order, one at a time, updates of earlier commits that are
+ * scheduled after a later one are dropped. If a property is updated again while
+ * a listener is still busy, updates pending for that listener are coalesced and it only receives the latest value.
+ * Every listener is scheduled on its own, so a slow listener doesn't delay other listeners of the same property.
+ */
+public class ListenerRegistry {
+    /** Listeners by qualified property name. */
+    private final ConcurrentMap<String, Entry> listeners = new ConcurrentHashMap<>();
+
+    /** Executor that notifies listeners. */
+    private final Executor executor;
+
+    /**
+     * Constructor.
+     * @param executor Executor that notifies listeners.
+     */
+    public ListenerRegistry(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Add listener.
+     * @param key Qualified name of the property.
+     * @param listener Listener.
+     */
+    public void add(String key, PropertyListener<?, ?> listener) {
+        // Listener is added inside the atomic update, so concurrent removal of the last listener can't drop the entry
+        // that the listener is added to.
+        listeners.compute(key, (k, entry) -> {
+            final Entry res = entry == null ? new Entry() : entry;
+
+            res.subscriptions.add(new Subscription(listener));
+
+            return res;
+        });
+    }
+
+    /**
+     * Remove listener.
+     * @param key Qualified name of the property.
+     * @param listener Listener.
+     * @return {@code true} if listener was registered.
+     */
+    public boolean remove(String key, PropertyListener<?, ?> listener) {
+        final boolean[] removed = new boolean[1];
+
+        listeners.computeIfPresent(key, (k, entry) -> {
+            for (Subscription subscription : entry.subscriptions) {
+                if (subscription.listener.equals(listener)) {
+                    removed[0] = entry.subscriptions.remove(subscription);
+
+                    subscription.cancelled = true;
+
+                    break;
+                }
+            }
+
+            return entry.subscriptions.isEmpty() ? null : entry;
+        });
+
+        return removed[0];
+    }
+
+    /**
+     * Schedule notification of property listeners about committed property value.
+     * @param revision Revision of the commit.
+     * @param oldValue Value of the property before the commit, {@code null} if property is new.
+     * @param property Committed property.
+     * @param <T> Type of the property.
+     */
+    public <T extends Serializable> void notify(long revision, T oldValue, DynamicProperty<T> property) {
+        final Entry entry = listeners.get(property.qualifiedName());
+
+        if (entry != null) {
+            for (Subscription subscription : entry.subscriptions)
+                subscription.offer(revision, oldValue, property);
+        }
+    }
+
+    /**
+     * Forget listeners of the property of removed named configuration. Updates that are already scheduled are still
+     * delivered.
+     * @param property Property.
+     */
+    public void onRemoved(DynamicProperty<?> property) {
+        listeners.remove(property.qualifiedName());
+    }
+
+    /**
+     * Get number of listeners registered for the property.
+     * @param key Qualified name of the property.
+     * @return Number of listeners.
+     */
+    public int count(String key) {
+        final Entry entry = listeners.get(key);
+
+        return entry == null ? 0 : entry.subscriptions.size();
+    }
+
+    /**
+     * Get number of properties that have listeners.
+     * @return Number of properties.
+     */
+    public int size() {
+        return listeners.size();
+    }
+
+    /**
+     * Listeners of a single property.
+     */
+    private static class Entry {
+        /** Subscriptions of the listeners. */
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Listener together with the update that hasn't been delivered to it yet.
+     */
+    private class Subscription implements Runnable {
+        /** Listener. */
+        private final PropertyListener<Serializable, Serializable> listener;
+
+        /** Update that is waiting to be delivered, guarded by {@code this}. */
+        private Update pending;
+
+        /** {@code true} if delivery task is submitted to the executor, guarded by {@code this}. */
+        private boolean scheduled;
+
+        /** Revision of the last offered update, guarded by {@code this}. */
+        private long revision = -1;
+
+        /** {@code true} if listener was removed, pending update is not delivered then. */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructor.
+         * @param listener Listener.
+         */
+        private Subscription(PropertyListener<?, ?> listener) {
+            this.listener = (PropertyListener<Serializable, Serializable>) listener;
+        }
+
+        /**
+         * Enqueue update, coalescing it with the pending one.
+         * @param revision Revision of the commit.
+         * @param oldValue Value of the property before the commit.
+         * @param property Committed property.
+         */
+        private void offer(long revision, Serializable oldValue, DynamicProperty<?> property) {
+            synchronized (this) {
+                // Commits are published without locking, so an earlier commit may be offered after a later one.
+                if (revision <= this.revision)
+                    return;
+
+                this.revision = revision;
+
+                // Listener hasn't seen the value in between, so the oldest old value is kept.
+                pending = pending == null ? new Update(oldValue, property) : new Update(pending.oldValue, property);
+
+                if (scheduled)
+                    return;
+
+                scheduled = true;
+            }
+
+            try {
+                executor.execute(this);
+            }
+            catch (RuntimeException e) {
+                synchronized (this) {
+                    scheduled = false;
+                }
+
+                throw e;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            while (true) {
+                final Update update;
+
+                synchronized (this) {
+                    update = pending;
+
+                    pending = null;
+
+                    if (update == null) {
+                        scheduled = false;
+
+                        return;
+                    }
+                }
+
+                if (!cancelled)
+                    deliver(update);
+            }
+        }
+
+        /**
+         * Run full listener lifecycle for the update. Listener failure is reported to the uncaught exception handler
+         * of the current thread.
+         * @param update Update.
+         */
+        private void deliver(Update update) {
+            final DynamicProperty<Serializable> property = (DynamicProperty<Serializable>) update.property;
+
+            final Serializable newValue = property.value();
+
+            try {
+                if (listener.beforeUpdate(update.oldValue, newValue, property)) {
+                    listener.update(newValue, property);
+
+                    listener.afterUpdate(newValue, property);
+                }
+            }
+            catch (RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    /**
+     * Property update.
+     */
+    private static class Update {
+        /** Value of the property before the update. */
+        private final Serializable oldValue;
+
+        /** Updated property. */
+        private final DynamicProperty<?> property;
+
+        /**
+         * Constructor.
+         * @param oldValue Value of the property before the update.
+         * @param property Updated property.
+         */
+        private Update(Serializable oldValue, DynamicProperty<?> property) {
+            this.oldValue = oldValue;
+            this.property = property;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.internal;
+
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.LongConfigurationValue;
+import org.apache.ignite.configuration.internal.validation.MemberKey;
+import org.apache.ignite.configuration.internal.validation.PropertyValidator;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+
+/**
+ * Holder for a long property value. Value is kept unboxed, so {@link #longValue()} doesn't unbox on every read.
+ */
+public class LongDynamicProperty extends DynamicProperty<Long> implements LongConfigurationValue {
+    /** Unboxed property value. */
+    private volatile long longVal;
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param configurator Configurator to attach to.
+     */
+    public LongDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
+    ) {
+        super(prefix, name, memberKey, configurator);
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param configurator Configurator to attach to.
+     * @param validator Property validator.
+     */
+    public LongDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
+        PropertyValidator<? super LongDynamicProperty> validator
+    ) {
+        super(prefix, name, memberKey, configurator, (PropertyValidator) validator);
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Property prefix.
+     * @param name Property name.
+     * @param memberKey Property member key.
+     * @param defaultValue Default value for the property.
+     * @param configurator Configurator to attach to.
+     */
+    public LongDynamicProperty(
+        String prefix,
+        String name,
+        MemberKey memberKey,
+        long defaultValue,
+        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator
+    ) {
+        super(prefix, name, memberKey, defaultValue, configurator);
+    }
+
+    /**
+     * Copy constructor.
+     * @param base Property to copy from.
+     * @param scope Change scope of the copy.
+     */
+    private LongDynamicProperty(LongDynamicProperty base, ChangeScope scope) {
+        super(base, scope);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long longValue() {
+        return longVal;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void change(long change) throws ConfigurationValidationException {
+        change((Long) change);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void assign(Long value) {
+        super.assign(value);
+
+        this.longVal = value == null ? 0L : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override public LongDynamicProperty copy(ChangeScope scope) {
+        return new LongDynamicProperty(this, scope);
+    }
+}
@@ -25,7 +25,8 @@ import org.apache.ignite.configuration.validation.ConfigurationValidationExcepti
  */
 public interface Modifier<VIEW, INIT, CHANGE> extends ConfigurationProperty<VIEW, CHANGE> {
     /**
-     * Change this configuration node value, but without validation.
+     * Change this configuration node value, but without validation. Listeners are not notified, this is done by
+     * the configurator after the change is committed.
      * FIXME: this is a necessary evil, but this should'n be accessed from outside of the configurator.
      * @param change CHANGE object.
      */
@@ -41,8 +42,23 @@ public interface Modifier<VIEW, INIT, CHANGE> extends ConfigurationProperty<VIEW
     /**
      * Validate this configuration node against old configuration root thus comparing new configuration "snapshot"
      * with a previous one.
+     * @param newRoot New configuration root, that holds this node.
      * @param oldRoot Old configuration root.
      * @throws ConfigurationValidationException If validation failed.
      */
-    void validate(DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException;
+    void validate(DynamicConfiguration<?, ?, ?> newRoot, DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException;
+
+    /**
+     * Create a copy of this node that belongs to the change scope. Child nodes are not copied, they are shared with
+     * this node until they are accessed within the scope.
+     * @param scope Change scope.
+     * @return Copy of this node.
+     */
+    Modifier<VIEW, INIT, CHANGE> copy(ChangeScope scope);
+
+    /**
+     * Get change scope this node belongs to.
+     * @return Change scope or {@code null} if node was not created by a change.
+     */
+    ChangeScope scope();
 }
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.configuration.internal;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class holds named configurations in VIEW object.
@@ -41,4 +43,75 @@ public class NamedList<T> {
     public Map<String, T> getValues() {
         return values;
     }
+
+    /**
+     * Visit named values that differ between two lists, values are compared by identity. Lists that are views of
+     * the same named list configuration are compared by walking only the parts of their trees that are not shared,
+     * other lists are compared name by name.
+     * @param oldList Old list, {@code null} if all values are new.
+     * @param newList New list, {@code null} if all values are removed.
+     * @param visitor Visitor of names with old and new values, old one is {@code null} if value was added and new one
+     *      is {@code null} if value was removed.
+     * @param <T> Type of values.
+     */
+    public static <T> void diff(NamedList<T> oldList, NamedList<T> newList, DiffVisitor<T> visitor) {
+        if (oldList == newList)
+            return;
+
+        final Map<String, T> oldValues = oldList == null ? Collections.emptyMap() : oldList.values;
+        final Map<String, T> newValues = newList == null ? Collections.emptyMap() : newList.values;
+
+        if (newValues instanceof NamedListConfiguration.TreeView
+            && (oldList == null || oldValues instanceof NamedListConfiguration.TreeView)) {
+            ((NamedListConfiguration.TreeView<?, T>) newValues).diff(
+                (NamedListConfiguration.TreeView) (oldList == null ? null : oldValues),
+                visitor
+            );
+
+            return;
+        }
+
+        for (Map.Entry<String, T> entry : newValues.entrySet()) {
+            final T oldValue = oldValues.get(entry.getKey());
+
+            if (oldValue != entry.getValue())
+                visitor.visit(entry.getKey(), oldValue, entry.getValue());
+        }
+
+        for (Map.Entry<String, T> entry : oldValues.entrySet()) {
+            if (!newValues.containsKey(entry.getKey()))
+                visitor.visit(entry.getKey(), entry.getValue(), null);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        return Objects.equals(values, ((NamedList<?>) o).values);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        return Objects.hashCode(values);
+    }
+
+    /**
+     * Visitor of named values that differ between two lists.
+     * @param <T> Type of values.
+     */
+    @FunctionalInterface
+    public interface DiffVisitor<T> {
+        /**
+         * Visit named value.
+         * @param name Name.
+         * @param oldValue Old value, {@code null} if value was added.
+         * @param newValue New value, {@code null} if value was removed.
+         */
+        void visit(String name, T oldValue, T newValue);
+    }
 }
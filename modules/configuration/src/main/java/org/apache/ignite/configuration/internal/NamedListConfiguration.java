@@ -17,78 +17,85 @@
 
 package org.apache.ignite.configuration.internal;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.ignite.configuration.ConfigurationProperty;
 import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
 
 /**
- * Named configuration wrapper.
+ * Named configuration wrapper. Named configurations are kept in an immutable tree ordered by name, so a copy of the
+ * list shares the tree with the base and adding, changing or removing a named configuration costs O(log n) no matter
+ * how large the list is. Views and members of the list read through to the tree and are built lazily.
+ * <p>
+ * Named configuration is removed by a change that maps its name to {@code null}. Properties of removed configuration
+ * are saved to the storage as {@code null} values (tombstones).
  */
 public class NamedListConfiguration<VIEW, T extends Modifier<VIEW, INIT, CHANGE>, INIT, CHANGE>
     extends DynamicConfiguration<NamedList<VIEW>, NamedList<INIT>, NamedList<CHANGE>> {
     /** Creator of named configuration. */
     private final BiFunction<String, String, T> creator;
 
-    /** Named configurations. */
-    private final Map<String, T> values = new HashMap<>();
+    /** Named configurations, replaced by updates of the list. */
+    private NamedListTree<T> values = NamedListTree.empty();
+
+    /** Read-only view of the named configurations. */
+    private final Map<String, ConfigurationProperty<?, ?>> membersView = new TreeView<>(() -> values, value -> value);
 
     /**
      * Constructor.
      * @param prefix Configuration prefix.
      * @param key Configuration key.
      * @param configurator Configurator that this object is attached to.
-     * @param root Root configuration.
      * @param creator Underlying configuration creator function.
      */
     public NamedListConfiguration(
         String prefix,
         String key,
         Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root,
         BiFunction<String, String, T> creator
     ) {
-        super(prefix, key, false, configurator, root);
+        super(prefix, key, false, configurator);
         this.creator = creator;
     }
 
     /**
-     * Copy constructor.
+     * Copy constructor. Named configurations are shared with the base and are copied on access.
      * @param base Base to copy from.
-     * @param configurator Configurator to attach to.
-     * @param root Root of the configuration.
+     * @param scope Change scope of the copy.
      */
     private NamedListConfiguration(
         NamedListConfiguration<VIEW, T, INIT, CHANGE> base,
-        Configurator<? extends DynamicConfiguration<?, ?, ?>> configurator,
-        DynamicConfiguration<?, ?, ?> root
+        ChangeScope scope
     ) {
-        super(base.prefix, base.key, false, configurator, root);
+        super(base, scope);
 
         this.creator = base.creator;
+        this.values = base.values;
 
-        for (Map.Entry<String, T> entry : base.values.entrySet()) {
-            String k = entry.getKey();
-            T value = entry.getValue();
-
-            final T copy = (T) ((DynamicConfiguration<VIEW, INIT, CHANGE>) value).copy(root);
-            add(copy);
-
-            this.values.put(k, copy);
-        }
+        scope.onCopied(this);
     }
 
     /** {@inheritDoc} */
     @Override public void init(NamedList<INIT> list) {
         list.getValues().forEach((key, init) -> {
-            if (!values.containsKey(key)) {
-                final T created = creator.apply(qualifiedName, key);
-                add(created);
-                values.put(key, created);
+            T value = values.get(key);
+
+            if (value == null) {
+                value = creator.apply(qualifiedName, key);
+
+                values = values.put(key, value);
             }
 
-            values.get(key).init(init);
+            value.init(init);
         });
     }
 
@@ -98,29 +105,187 @@ public class NamedListConfiguration<VIEW, T extends Modifier<VIEW, INIT, CHANGE>
      * @return Configuration.
      */
     public T get(String name) {
-        return values.get(name);
+        T value = values.get(name);
+
+        if (value != null && isWritable() && value.scope() != scope) {
+            value = (T) value.copy(scope);
+
+            values = values.put(name, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get named configuration by name, creating it if there's no such name. Must be called only within a change.
+     * @param name Name.
+     * @return Configuration.
+     */
+    public T getOrCreate(String name) {
+        T value = get(name);
+
+        if (value == null) {
+            value = (T) creator.apply(qualifiedName, name).copy(scope);
+
+            values = values.put(name, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove named configuration. Must be called only within a change.
+     * @param name Name.
+     * @return {@code true} if there was such name.
+     */
+    public boolean remove(String name) {
+        final NamedListTree<T> updated = values.remove(name);
+
+        if (updated == values)
+            return false;
+
+        values = updated;
+
+        return true;
+    }
+
+    /**
+     * Get number of named configurations.
+     * @return Size.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Get named configurations in the order of names, starting after the given name. Use the name of the last
+     * returned configuration to get the next page.
+     * @param after Name to start after, {@code null} to start from the first name.
+     * @param limit Maximum number of configurations.
+     * @return Configurations.
+     */
+    public List<T> page(String after, int limit) {
+        return values.page(after, limit);
+    }
+
+    /**
+     * Visit named configurations that differ between this list and its older version. Named configurations shared
+     * by the lists are skipped without being visited.
+     * @param old Older version of the list, {@code null} if all configurations are new.
+     * @param visitor Visitor of old and new configurations, old one is {@code null} if configuration was added and
+     *      new one is {@code null} if it was removed.
+     */
+    public void diff(NamedListConfiguration<VIEW, T, INIT, CHANGE> old, BiConsumer<T, T> visitor) {
+        values.diff(old == null ? NamedListTree.empty() : old.values, (name, oldValue, newValue) -> visitor.accept(oldValue, newValue));
+    }
+
+    /** {@inheritDoc} */
+    @Override public Modifier<?, ?, ?> member(String key) {
+        return values.get(key);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Map<String, ConfigurationProperty<?, ?>> members() {
+        return membersView;
     }
 
     /** {@inheritDoc} */
-    @Override public NamedList<VIEW> value() {
-        return new NamedList<>(values.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, it -> it.getValue().value())));
+    @Override public void validate(DynamicConfiguration<?, ?, ?> newRoot, DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException {
+        values.forEach((name, value) -> value.validate(newRoot, oldRoot));
+    }
+
+    /**
+     * {@inheritDoc}
+     * View reads through to the named configurations of this list, views of named configurations are built on access.
+     * Named configurations are immutable, so the view doesn't change after it's created.
+     */
+    @Override protected NamedList<VIEW> createView() {
+        final NamedListTree<T> values = this.values;
+
+        return new NamedList<>(new TreeView<>(() -> values, Modifier::value));
     }
 
     /** {@inheritDoc} */
     @Override public void changeWithoutValidation(NamedList<CHANGE> list) {
         list.getValues().forEach((key, change) -> {
-            if (!values.containsKey(key)) {
-                final T created = creator.apply(qualifiedName, key);
-                add(created);
-                values.put(key, created);
-            }
-
-            values.get(key).changeWithoutValidation(change);
+            if (change == null)
+                remove(key);
+            else
+                getOrCreate(key).changeWithoutValidation(change);
         });
     }
 
     /** {@inheritDoc} */
-    @Override public NamedListConfiguration<VIEW, T, INIT, CHANGE> copy(DynamicConfiguration<?, ?, ?> root) {
-        return new NamedListConfiguration<>(this, configurator, root);
+    @Override public NamedListConfiguration<VIEW, T, INIT, CHANGE> copy(ChangeScope scope) {
+        return new NamedListConfiguration<>(this, scope);
+    }
+
+    /**
+     * Read-only map of named configurations ordered by name, mapped on access.
+     * @param <T> Type of named configurations.
+     * @param <V> Type of mapped values.
+     */
+    static class TreeView<T, V> extends AbstractMap<String, V> {
+        /** Named configurations. */
+        private final Supplier<NamedListTree<T>> tree;
+
+        /** Mapping of named configurations. */
+        private final Function<T, V> mapper;
+
+        /**
+         * Constructor.
+         * @param tree Named configurations.
+         * @param mapper Mapping of named configurations.
+         */
+        private TreeView(Supplier<NamedListTree<T>> tree, Function<T, V> mapper) {
+            this.tree = tree;
+            this.mapper = mapper;
+        }
+
+        /**
+         * Visit names whose mapped configurations differ between this map and its older version. Subtrees of named
+         * configurations shared by the maps are skipped without being visited.
+         * @param old Older version of the map, {@code null} if all configurations are new.
+         * @param visitor Visitor of names with old and new mapped configurations.
+         */
+        void diff(TreeView<T, V> old, NamedList.DiffVisitor<V> visitor) {
+            tree.get().diff(old == null ? NamedListTree.empty() : old.tree.get(), (name, oldValue, newValue) -> visitor.visit(
+                name,
+                oldValue == null ? null : mapper.apply(oldValue),
+                newValue == null ? null : mapper.apply(newValue)
+            ));
+        }
+
+        /** {@inheritDoc} */
+        @Override public V get(Object key) {
+            final T value = key instanceof String ? tree.get().get((String) key) : null;
+
+            return value == null ? null : mapper.apply(value);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean containsKey(Object key) {
+            return key instanceof String && tree.get().get((String) key) != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int size() {
+            return tree.get().size();
+        }
+
+        /** {@inheritDoc} */
+        @Override public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<Entry<String, V>>() {
+                /** {@inheritDoc} */
+                @Override public Iterator<Entry<String, V>> iterator() {
+                    return tree.get().iterator(mapper);
+                }
+
+                /** {@inheritDoc} */
+                @Override public int size() {
+                    return tree.get().size();
+                }
+            };
+        }
     }
 }
@@ -0,0 +1,477 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Immutable map of named configurations ordered by name. Every update returns a new tree that shares all nodes but
+ * the path to the updated one with the original tree, so copying the tree is free and updates cost O(log n).
+ * <p>
+ * Tree is a treap with priorities derived from names, so trees with the same names have the same shape, and the
+ * difference between two versions of a tree is found by visiting only nodes that are not shared between them.
+ * @param <T> Type of named configurations.
+ */
+final class NamedListTree<T> {
+    /** Empty tree. */
+    private static final NamedListTree<?> EMPTY = new NamedListTree<>(null);
+
+    /** Root node, {@code null} if tree is empty. */
+    private final Node<T> root;
+
+    /**
+     * Constructor.
+     * @param root Root node.
+     */
+    private NamedListTree(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Get empty tree.
+     * @param <T> Type of named configurations.
+     * @return Empty tree.
+     */
+    static <T> NamedListTree<T> empty() {
+        return (NamedListTree<T>) EMPTY;
+    }
+
+    /**
+     * Get number of named configurations.
+     * @return Size.
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Get named configuration.
+     * @param name Name.
+     * @return Configuration or {@code null} if there's no such name.
+     */
+    T get(String name) {
+        Node<T> node = root;
+
+        while (node != null) {
+            final int cmp = name.compareTo(node.name);
+
+            if (cmp == 0)
+                return node.value;
+
+            node = cmp < 0 ? node.left : node.right;
+        }
+
+        return null;
+    }
+
+    /**
+     * Put named configuration.
+     * @param name Name.
+     * @param value Configuration.
+     * @return Updated tree.
+     */
+    NamedListTree<T> put(String name, T value) {
+        final Node<T> newRoot = put(root, name, priority(name), value);
+
+        return newRoot == root ? this : new NamedListTree<>(newRoot);
+    }
+
+    /**
+     * Remove named configuration.
+     * @param name Name.
+     * @return Updated tree.
+     */
+    NamedListTree<T> remove(String name) {
+        final Node<T> newRoot = remove(root, name);
+
+        return newRoot == root ? this : new NamedListTree<>(newRoot);
+    }
+
+    /**
+     * Visit named configurations in the order of names.
+     * @param consumer Consumer of names and configurations.
+     */
+    void forEach(BiConsumer<String, T> consumer) {
+        forEach(root, consumer);
+    }
+
+    /**
+     * Iterate over named configurations in the order of names.
+     * @param mapper Mapping of configurations.
+     * @param <V> Type of mapped configurations.
+     * @return Iterator over names and mapped configurations.
+     */
+    <V> Iterator<Map.Entry<String, V>> iterator(Function<T, V> mapper) {
+        final Deque<Node<T>> stack = new ArrayDeque<>();
+
+        for (Node<T> node = root; node != null; node = node.left)
+            stack.push(node);
+
+        return new Iterator<Map.Entry<String, V>>() {
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            /** {@inheritDoc} */
+            @Override public Map.Entry<String, V> next() {
+                if (stack.isEmpty())
+                    throw new NoSuchElementException();
+
+                final Node<T> node = stack.pop();
+
+                for (Node<T> next = node.right; next != null; next = next.left)
+                    stack.push(next);
+
+                return new AbstractMap.SimpleImmutableEntry<>(node.name, mapper.apply(node.value));
+            }
+        };
+    }
+
+    /**
+     * Get named configurations in the order of names, starting after the given name.
+     * @param after Name to start after, {@code null} to start from the first name.
+     * @param limit Maximum number of configurations.
+     * @return Configurations.
+     */
+    List<T> page(String after, int limit) {
+        final List<T> res = new ArrayList<>(Math.min(limit, size()));
+
+        page(root, after, limit, res);
+
+        return res;
+    }
+
+    /**
+     * Visit names whose configurations differ between trees. Subtrees shared by the trees are skipped.
+     * @param oldTree Old tree.
+     * @param visitor Visitor of names with old and new configurations, old one is {@code null} if name was added and
+     *      new one is {@code null} if name was removed.
+     */
+    void diff(NamedListTree<T> oldTree, NamedList.DiffVisitor<T> visitor) {
+        diff(oldTree.root, root, visitor);
+    }
+
+    /**
+     * Get size of the subtree.
+     * @param node Subtree root.
+     * @return Size.
+     */
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Get priority of the name.
+     * @param name Name.
+     * @return Priority.
+     */
+    private static int priority(String name) {
+        int h = name.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Check whether node must be above the other node.
+     * @param node Node.
+     * @param other Other node.
+     * @return {@code true} if node has higher priority.
+     */
+    private static boolean above(Node<?> node, Node<?> other) {
+        return node.priority > other.priority || node.priority == other.priority && node.name.compareTo(other.name) < 0;
+    }
+
+    /**
+     * Put named configuration into the subtree.
+     * @param node Subtree root.
+     * @param name Name.
+     * @param priority Priority of the name.
+     * @param value Configuration.
+     * @param <T> Type of configurations.
+     * @return New subtree root.
+     */
+    private static <T> Node<T> put(Node<T> node, String name, int priority, T value) {
+        if (node == null)
+            return new Node<>(name, priority, value, null, null);
+
+        final int cmp = name.compareTo(node.name);
+
+        if (cmp == 0)
+            return node.value == value ? node : new Node<>(name, priority, value, node.left, node.right);
+
+        if (cmp < 0) {
+            final Node<T> left = put(node.left, name, priority, value);
+
+            if (left == node.left)
+                return node;
+
+            if (above(left, node))
+                return new Node<>(left.name, left.priority, left.value, left.left, node.with(left.right, node.right));
+
+            return node.with(left, node.right);
+        }
+        else {
+            final Node<T> right = put(node.right, name, priority, value);
+
+            if (right == node.right)
+                return node;
+
+            if (above(right, node))
+                return new Node<>(right.name, right.priority, right.value, node.with(node.left, right.left), right.right);
+
+            return node.with(node.left, right);
+        }
+    }
+
+    /**
+     * Remove named configuration from the subtree.
+     * @param node Subtree root.
+     * @param name Name.
+     * @param <T> Type of configurations.
+     * @return New subtree root.
+     */
+    private static <T> Node<T> remove(Node<T> node, String name) {
+        if (node == null)
+            return null;
+
+        final int cmp = name.compareTo(node.name);
+
+        if (cmp == 0)
+            return merge(node.left, node.right);
+
+        if (cmp < 0) {
+            final Node<T> left = remove(node.left, name);
+
+            return left == node.left ? node : node.with(left, node.right);
+        }
+        else {
+            final Node<T> right = remove(node.right, name);
+
+            return right == node.right ? node : node.with(node.left, right);
+        }
+    }
+
+    /**
+     * Merge subtrees.
+     * @param left Subtree with lesser names.
+     * @param right Subtree with greater names.
+     * @param <T> Type of configurations.
+     * @return Root of the merged subtree.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null)
+            return right;
+
+        if (right == null)
+            return left;
+
+        if (above(left, right))
+            return left.with(left.left, merge(left.right, right));
+        else
+            return right.with(merge(left, right.left), right.right);
+    }
+
+    /**
+     * Split subtree by name.
+     * @param node Subtree root.
+     * @param name Name.
+     * @param res Array to put subtree with lesser names, node with the name and subtree with greater names to.
+     * @param <T> Type of configurations.
+     */
+    private static <T> void split(Node<T> node, String name, Node<T>[] res) {
+        if (node == null) {
+            res[0] = res[1] = res[2] = null;
+
+            return;
+        }
+
+        final int cmp = name.compareTo(node.name);
+
+        if (cmp == 0) {
+            res[0] = node.left;
+            res[1] = node;
+            res[2] = node.right;
+        }
+        else if (cmp < 0) {
+            split(node.left, name, res);
+
+            res[2] = node.with(res[2], node.right);
+        }
+        else {
+            split(node.right, name, res);
+
+            res[0] = node.with(node.left, res[0]);
+        }
+    }
+
+    /**
+     * Visit names whose configurations differ between subtrees.
+     * @param oldNode Old subtree root.
+     * @param newNode New subtree root.
+     * @param visitor Visitor of names with old and new configurations.
+     * @param <T> Type of configurations.
+     */
+    private static <T> void diff(Node<T> oldNode, Node<T> newNode, NamedList.DiffVisitor<T> visitor) {
+        if (oldNode == newNode)
+            return;
+
+        if (oldNode == null) {
+            forEach(newNode, (name, value) -> visitor.visit(name, null, value));
+
+            return;
+        }
+
+        if (newNode == null) {
+            forEach(oldNode, (name, value) -> visitor.visit(name, value, null));
+
+            return;
+        }
+
+        final Node<T> oldLeft;
+        final Node<T> oldMatch;
+        final Node<T> oldRight;
+
+        if (oldNode.name.equals(newNode.name)) {
+            oldLeft = oldNode.left;
+            oldMatch = oldNode;
+            oldRight = oldNode.right;
+        }
+        else {
+            final Node<T>[] parts = new Node[3];
+
+            split(oldNode, newNode.name, parts);
+
+            oldLeft = parts[0];
+            oldMatch = parts[1];
+            oldRight = parts[2];
+        }
+
+        diff(oldLeft, newNode.left, visitor);
+
+        if (oldMatch == null)
+            visitor.visit(newNode.name, null, newNode.value);
+        else if (oldMatch.value != newNode.value)
+            visitor.visit(newNode.name, oldMatch.value, newNode.value);
+
+        diff(oldRight, newNode.right, visitor);
+    }
+
+    /**
+     * Visit subtree in the order of names.
+     * @param node Subtree root.
+     * @param consumer Consumer of names and configurations.
+     * @param <T> Type of configurations.
+     */
+    private static <T> void forEach(Node<T> node, BiConsumer<String, T> consumer) {
+        while (node != null) {
+            forEach(node.left, consumer);
+
+            consumer.accept(node.name, node.value);
+
+            node = node.right;
+        }
+    }
+
+    /**
+     * Collect configurations of the subtree with names greater than the given one.
+     * @param node Subtree root.
+     * @param after Name to start after, {@code null} to start from the first name.
+     * @param limit Maximum number of configurations.
+     * @param res List to add configurations to.
+     * @param <T> Type of configurations.
+     */
+    private static <T> void page(Node<T> node, String after, int limit, List<T> res) {
+        while (node != null && res.size() < limit) {
+            if (after != null && node.name.compareTo(after) <= 0) {
+                node = node.right;
+
+                continue;
+            }
+
+            page(node.left, after, limit, res);
+
+            if (res.size() < limit)
+                res.add(node.value);
+
+            // Everything to the right is greater than the given name.
+            after = null;
+            node = node.right;
+        }
+    }
+
+    /**
+     * Tree node.
+     * @param <T> Type of configuration.
+     */
+    private static final class Node<T> {
+        /** Name. */
+        private final String name;
+
+        /** Priority of the name. */
+        private final int priority;
+
+        /** Configuration. */
+        private final T value;
+
+        /** Subtree with lesser names. */
+        private final Node<T> left;
+
+        /** Subtree with greater names. */
+        private final Node<T> right;
+
+        /** Size of the subtree. */
+        private final int size;
+
+        /**
+         * Constructor.
+         * @param name Name.
+         * @param priority Priority of the name.
+         * @param value Configuration.
+         * @param left Subtree with lesser names.
+         * @param right Subtree with greater names.
+         */
+        private Node(String name, int priority, T value, Node<T> left, Node<T> right) {
+            this.name = name;
+            this.priority = priority;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        /**
+         * Copy node with other subtrees.
+         * @param left Subtree with lesser names.
+         * @param right Subtree with greater names.
+         * @return Copy.
+         */
+        private Node<T> with(Node<T> left, Node<T> right) {
+            return new Node<>(name, priority, value, left, right);
+        }
+    }
+}
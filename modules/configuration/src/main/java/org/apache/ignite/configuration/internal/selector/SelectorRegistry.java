@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.internal.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.internal.Modifier;
+
+/**
+ * Selectors of one configuration root. Every configurator has its own registry, filled by the generated
+ * {@code Selectors.register<Root>} method when the configurator is created. Selectors are kept in a trie of key
+ * segments, so lookups and listing of keys by prefix only visit nodes on the path and under the prefix. Registry is
+ * read without locking.
+ */
+public class SelectorRegistry {
+    /** Root of the trie, has no selector. */
+    private final Node trie = new Node(null);
+
+    /**
+     * Selectors of elements that are not in named configurations by key. Such keys are known from the schema, so the
+     * map is filled when selectors are put and never grows afterwards.
+     */
+    private final ConcurrentMap<String, Selector<?, ?, ?, ?, ?>> statics = new ConcurrentHashMap<>();
+
+    /**
+     * Get selector by name. Selectors of elements that are not in named configurations are looked up by the name
+     * without allocation. Selectors of elements of named configurations are resolved through the trie, since names
+     * come from the outside and may refer to configurations that don't exist.
+     *
+     * Valid formats for selector name:
+     * <ul>
+     *     <li>root.inner.option.field in case of static config field</li>
+     *     <li>root.inner.named[name].field in case of dynamic (named) config field</li>
+     * </ul>
+     *
+     * @param name Selector name.
+     * @return Selector.
+     * @throws SelectorNotFoundException If there's no such selector.
+     */
+    public <ROOT extends DynamicConfiguration<?, ?, ?>, TARGET extends Modifier<VIEW, INIT, CHANGE>, VIEW, INIT, CHANGE> Selector<ROOT, TARGET, VIEW, INIT, CHANGE> find(String name) {
+        final Selector<?, ?, ?, ?, ?> selector = statics.get(name);
+
+        return (Selector<ROOT, TARGET, VIEW, INIT, CHANGE>) (selector == null ? resolve(name) : selector);
+    }
+
+    /**
+     * Get keys of the selectors that start with the prefix, in lexicographical order. Names of named configurations
+     * in the prefix are kept in the keys, like {@code local.baseline.nodes[node1].p} gives
+     * {@code local.baseline.nodes[node1].port}.
+     * @param prefix Prefix of the key.
+     * @return Keys.
+     */
+    public List<String> keys(String prefix) {
+        final List<String> arguments = new ArrayList<>();
+
+        final List<Integer> positions = new ArrayList<>();
+
+        final String key = parse(prefix, arguments, positions);
+
+        final int lastDot = key.lastIndexOf('.');
+
+        final Node parent = lastDot == -1 ? trie : node(key.substring(0, lastDot));
+
+        if (parent == null)
+            return Collections.emptyList();
+
+        final String segment = key.substring(lastDot + 1);
+
+        final List<String> res = new ArrayList<>();
+
+        // Segments that start with the last segment of the prefix are sorted right after it.
+        for (Map.Entry<String, Node> child : parent.children.tailMap(segment).entrySet()) {
+            if (!child.getKey().startsWith(segment))
+                break;
+
+            collectKeys(child.getValue(), res);
+        }
+
+        if (arguments.isEmpty())
+            return res;
+
+        final List<String> named = new ArrayList<>(res.size());
+
+        for (String k : res) {
+            final String name = withNames(k, arguments, positions);
+
+            if (name != null)
+                named.add(name);
+        }
+
+        return named;
+    }
+
+    /**
+     * Insert names of named configurations into the key.
+     * @param key Selector key.
+     * @param arguments Names of named configurations.
+     * @param positions Positions in the key that names are inserted at.
+     * @return Selector name or {@code null} if the key has no named configuration at some of the positions.
+     */
+    private static String withNames(String key, List<String> arguments, List<Integer> positions) {
+        final StringBuilder name = new StringBuilder(key.length() + arguments.size() * 16);
+
+        int prev = 0;
+
+        for (int i = 0; i < arguments.size(); i++) {
+            final int pos = positions.get(i);
+
+            // Named configuration is a whole key segment, other segments starting with the same characters don't match.
+            if (pos > key.length() || pos < key.length() && key.charAt(pos) != '.')
+                return null;
+
+            name.append(key, prev, pos).append('[').append(arguments.get(i)).append(']');
+
+            prev = pos;
+        }
+
+        return name.append(key, prev, key.length()).toString();
+    }
+
+    /**
+     * Resolve selector by name.
+     * @param name Selector name.
+     * @return Selector.
+     */
+    private Selector<?, ?, ?, ?, ?> resolve(String name) {
+        final List<String> arguments = new ArrayList<>();
+
+        final String key = parse(name, arguments);
+
+        Node node = trie;
+
+        for (int pos = 0; node != null && pos <= key.length(); ) {
+            int end = key.indexOf('.', pos);
+
+            if (end == -1)
+                end = key.length();
+
+            final Node child = node.children.get(key.substring(pos, end));
+
+            // Keys of the deepest existing node are the options.
+            if (child == null) {
+                if (node == trie)
+                    break;
+
+                final List<String> options = new ArrayList<>();
+
+                collectKeys(node, options);
+
+                throw new SelectorNotFoundException("Selector " + key + " was not found, available options are: " + String.join(", ", options));
+            }
+
+            node = child;
+            pos = end + 1;
+        }
+
+        final SelectorHolder selector = node == trie ? null : node.selector;
+
+        if (selector == null)
+            throw new SelectorNotFoundException("Selector " + key + " was not found");
+
+        if (arguments.size() != selector.arity)
+            throw new SelectorNotFoundException("Selector " + key + " expects " + selector.arity + " names, got: " + name);
+
+        return selector.factory.create(arguments.toArray(new String[0]));
+    }
+
+    /**
+     * Split selector name into the key and the names of named configurations.
+     * @param name Selector name.
+     * @param arguments Names of named configurations.
+     * @return Selector key.
+     */
+    private static String parse(String name, List<String> arguments) {
+        return parse(name, arguments, null);
+    }
+
+    /**
+     * Split selector name into the key and the names of named configurations.
+     * @param name Selector name.
+     * @param arguments Names of named configurations.
+     * @param positions Positions of the names in the key, {@code null} if not needed.
+     * @return Selector key.
+     */
+    private static String parse(String name, List<String> arguments, List<Integer> positions) {
+        StringBuilder keyBuilder = new StringBuilder(name.length());
+
+        int pos = 0;
+
+        while (pos < name.length()) {
+            final int start = name.indexOf('[', pos);
+            final int end = start == -1 ? -1 : name.indexOf(']', start);
+
+            if (end == -1) {
+                keyBuilder.append(name, pos, name.length());
+
+                break;
+            }
+
+            keyBuilder.append(name, pos, start);
+            arguments.add(name.substring(start + 1, end));
+
+            if (positions != null)
+                positions.add(keyBuilder.length());
+
+            pos = end + 1;
+        }
+
+        return keyBuilder.toString();
+    }
+
+    /**
+     * Put selector by key.
+     * @param key Selector key.
+     * @param selector Selector.
+     */
+    public void put(String key, Selector<?, ?, ?, ?, ?> selector) {
+        put(key, new SelectorHolder(0, names -> selector));
+
+        statics.put(key, selector);
+    }
+
+    /**
+     * Put selector of an element of named configurations by key.
+     * @param key Selector key.
+     * @param arity Number of named configurations on the path to the element.
+     * @param factory Factory that creates selector for the names.
+     */
+    public void put(String key, int arity, SelectorFactory factory) {
+        put(key, new SelectorHolder(arity, factory));
+
+        statics.remove(key);
+    }
+
+    /**
+     * Put selector holder to the trie, creating missing nodes on the path.
+     * @param key Selector key.
+     * @param holder Selector holder.
+     */
+    private void put(String key, SelectorHolder holder) {
+        Node node = trie;
+
+        for (int pos = 0; pos <= key.length(); ) {
+            int end = key.indexOf('.', pos);
+
+            if (end == -1)
+                end = key.length();
+
+            final String nodeKey = key.substring(0, end);
+
+            node = node.children.computeIfAbsent(key.substring(pos, end), segment -> new Node(nodeKey));
+
+            pos = end + 1;
+        }
+
+        node.selector = holder;
+    }
+
+    /**
+     * Get node of the trie by key.
+     * @param key Key.
+     * @return Node or {@code null} if there's no such node.
+     */
+    private Node node(String key) {
+        Node node = trie;
+
+        for (int pos = 0; node != null && pos <= key.length(); ) {
+            int end = key.indexOf('.', pos);
+
+            if (end == -1)
+                end = key.length();
+
+            node = node.children.get(key.substring(pos, end));
+
+            pos = end + 1;
+        }
+
+        return node;
+    }
+
+    /**
+     * Collect keys of the selectors of the subtree in lexicographical order.
+     * @param node Root of the subtree.
+     * @param keys Keys.
+     */
+    private static void collectKeys(Node node, List<String> keys) {
+        if (node.selector != null)
+            keys.add(node.key);
+
+        for (Node child : node.children.values())
+            collectKeys(child, keys);
+    }
+
+    /**
+     * Node of the trie.
+     */
+    private static final class Node {
+        /** Key of the node, {@code null} for the root of the trie. */
+        private final String key;
+
+        /** Children by key segment. */
+        private final ConcurrentSkipListMap<String, Node> children = new ConcurrentSkipListMap<>();
+
+        /** Selector, {@code null} if node is only a part of longer keys. */
+        private volatile SelectorHolder selector;
+
+        /**
+         * Constructor.
+         * @param key Key of the node.
+         */
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Holder for selector factory and the number of names it expects.
+     */
+    private static final class SelectorHolder {
+        /** Number of names. */
+        private final int arity;
+
+        /** Selector factory. */
+        private final SelectorFactory factory;
+
+        /**
+         * Constructor.
+         * @param arity Number of names.
+         * @param factory Selector factory.
+         */
+        private SelectorHolder(int arity, SelectorFactory factory) {
+            this.arity = arity;
+            this.factory = factory;
+        }
+    }
+}
@@ -29,10 +29,14 @@ public class MemberKey {
     /** Name of the field. */
     private final String fieldName;
 
+    /** Hash code, keys are looked up on every commit. */
+    private final int hash;
+
     /** Constructor. */
     public MemberKey(Class<?> clazz, String fieldName) {
         this.clazz = clazz;
         this.fieldName = fieldName;
+        this.hash = Objects.hash(clazz, fieldName);
     }
 
     /** {@inheritDoc} */
@@ -46,6 +50,6 @@ public class MemberKey {
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        return Objects.hash(clazz, fieldName);
+        return hash;
     }
 }
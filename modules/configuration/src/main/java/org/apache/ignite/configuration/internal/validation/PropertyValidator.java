@@ -14,28 +14,25 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.ignite.configuration.internal.validation;
 
-import java.io.Serializable;
 import org.apache.ignite.configuration.internal.DynamicConfiguration;
 import org.apache.ignite.configuration.validation.ConfigurationValidationException;
-import org.apache.ignite.configuration.validation.FieldValidator;
 
 /**
- * Validate that field value is not null.
+ * Validation of a single configuration property. Implementations are generated for every validated field of a
+ * configuration schema, with built-in constraints inlined and custom validators kept in static fields.
  *
- * @param <C> Root configuration type.
+ * @param <P> Type of the property.
  */
-public class NotNullValidator<C extends DynamicConfiguration<?, ?, ?>> extends FieldValidator<Serializable, C> {
-    /** Constructor. */
-    public NotNullValidator(String message) {
-        super(message);
-    }
-
-    /** {@inheritDoc} */
-    @Override public void validate(Serializable value, C newRoot, C oldRoot) throws ConfigurationValidationException {
-        if (value == null)
-            throw new ConfigurationValidationException("");
-    }
+@FunctionalInterface
+public interface PropertyValidator<P> {
+    /**
+     * Validate property.
+     * @param property Property of the new configuration root.
+     * @param newRoot New configuration root.
+     * @param oldRoot Old configuration root.
+     * @throws ConfigurationValidationException If validation failed.
+     */
+    void validate(P property, DynamicConfiguration<?, ?, ?> newRoot, DynamicConfiguration<?, ?, ?> oldRoot) throws ConfigurationValidationException;
 }
@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.internal.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.ignite.configuration.internal.DynamicConfiguration;
+import org.apache.ignite.configuration.internal.DynamicProperty;
+import org.apache.ignite.configuration.internal.Modifier;
+import org.apache.ignite.configuration.validation.ConfigurationValidationException;
+import org.apache.ignite.configuration.validation.FieldValidator;
+
+/**
+ * Validation of a configuration root. Validators themselves are generated into configuration classes, registry keeps an index from the elements that
+ * validators depend on to the validated members, and qualified names of committed properties of every member, so that
+ * a change re-runs only validators of changed properties and validators whose dependencies have changed.
+ *
+ * @param <C> Type of configuration root.
+ */
+public class ValidationRegistry<C extends DynamicConfiguration<?, ?, ?>> {
+    /** Default number of properties to validate starting from which validation is split into fork-join tasks. */
+    public static final int DFLT_PARALLEL_THRESHOLD = 1024;
+
+    /** Number of properties validated by one fork-join task. */
+    private static final int TASK_SIZE = 256;
+
+    /** Validated members. */
+    private final Set<MemberKey> validated = ConcurrentHashMap.newKeySet();
+
+    /** Members with validators by qualified names of the elements those validators depend on. */
+    private final ConcurrentMap<String, Set<MemberKey>> dependents = new ConcurrentHashMap<>();
+
+    /** Members with validators that didn't declare their dependencies and thus are run on every change. */
+    private final Set<MemberKey> unconditional = ConcurrentHashMap.newKeySet();
+
+    /** Number of properties to validate starting from which validation is split into fork-join tasks. */
+    private volatile int parallelThreshold = DFLT_PARALLEL_THRESHOLD;
+
+    /** Paths of committed properties by member key and qualified name of the property. */
+    private final ConcurrentMap<MemberKey, ConcurrentMap<String, String[]>> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Register validated member. Only the first registration of the member has effect.
+     * @param key Member key.
+     * @param dependencies Qualified names of elements that member validation depends on, {@code null} if member has
+     *      to be validated on every change.
+     */
+    public void register(MemberKey key, Collection<String> dependencies) {
+        if (!validated.add(key))
+            return;
+
+        if (dependencies == null)
+            unconditional.add(key);
+        else {
+            for (String dependency : dependencies)
+                dependents.computeIfAbsent(dependency, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    /**
+     * Merge dependencies of validators.
+     * @param validators Validators of a member.
+     * @return Qualified names of elements that validators depend on, {@code null} if any of validators has to be run
+     *      on every change.
+     */
+    public static Collection<String> dependencies(FieldValidator<?, ?>... validators) {
+        final Set<String> res = new HashSet<>();
+
+        for (FieldValidator<?, ?> validator : validators) {
+            final Collection<String> dependencies = validator.dependencies();
+
+            if (dependencies == null)
+                return null;
+
+            res.addAll(dependencies);
+        }
+
+        return res;
+    }
+
+    /**
+     * Remember committed property, so it's validated when dependencies of its validators change.
+     * @param property Property.
+     */
+    public void onCommitted(DynamicProperty<?> property) {
+        final MemberKey key = property.memberKey();
+
+        if (!validated.contains(key))
+            return;
+
+        instances.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(property.qualifiedName(), ValidationRegistry::path);
+    }
+
+    /**
+     * Forget property of removed named configuration.
+     * @param property Property.
+     */
+    public void onRemoved(DynamicProperty<?> property) {
+        final Map<String, String[]> paths = instances.get(property.memberKey());
+
+        if (paths != null)
+            paths.remove(property.qualifiedName());
+    }
+
+    /**
+     * Set number of properties to validate starting from which validation is split into fork-join tasks.
+     * @param threshold Threshold.
+     */
+    public void parallelThreshold(int threshold) {
+        parallelThreshold = Math.max(threshold, 1);
+    }
+
+    /**
+     * Validate new root. Runs validators of changed properties and validators of committed properties that depend on
+     * changed or removed properties. All properties are validated even if some of them fail, large changes, like
+     * imports of named configurations, are validated in parallel.
+     * @param newRoot New configuration root.
+     * @param oldRoot Old configuration root.
+     * @param changed Properties that differ between roots.
+     * @param removed Properties of the old root that were removed together with their named configurations.
+     * @throws ConfigurationValidationException If validation failed. If several properties failed, exception has
+     *      the failures of all of them.
+     */
+    public void validate(
+        C newRoot,
+        C oldRoot,
+        Collection<DynamicProperty<?>> changed,
+        Collection<DynamicProperty<?>> removed
+    ) throws ConfigurationValidationException {
+        final Set<String> done = new HashSet<>();
+
+        // Removed properties have nothing to validate.
+        for (DynamicProperty<?> property : removed)
+            done.add(property.qualifiedName());
+
+        final List<String> names = new ArrayList<>(changed.size());
+
+        final List<Modifier<?, ?, ?>> properties = new ArrayList<>(changed.size());
+
+        for (DynamicProperty<?> property : changed) {
+            done.add(property.qualifiedName());
+
+            names.add(property.qualifiedName());
+            properties.add(property);
+        }
+
+        final Set<MemberKey> triggered = new HashSet<>(unconditional);
+
+        if (!dependents.isEmpty()) {
+            for (DynamicProperty<?> property : changed)
+                collectDependents(property.qualifiedName(), triggered);
+
+            for (DynamicProperty<?> property : removed)
+                collectDependents(property.qualifiedName(), triggered);
+        }
+
+        for (MemberKey key : triggered) {
+            final Map<String, String[]> paths = instances.get(key);
+
+            if (paths == null)
+                continue;
+
+            for (Map.Entry<String, String[]> entry : paths.entrySet()) {
+                if (!done.add(entry.getKey()))
+                    continue;
+
+                final Modifier<?, ?, ?> property = resolve(newRoot, entry.getValue());
+
+                // Property might have been committed after the new root was copied.
+                if (property != null) {
+                    names.add(entry.getKey());
+                    properties.add(property);
+                }
+            }
+        }
+
+        final ValidationTask task = new ValidationTask(
+            properties, newRoot, oldRoot, new ConfigurationValidationException[properties.size()], 0, properties.size()
+        );
+
+        if (properties.size() < parallelThreshold)
+            task.validateRange();
+        else
+            ForkJoinPool.commonPool().invoke(task);
+
+        Map<String, ConfigurationValidationException> failures = null;
+
+        for (int i = 0; i < task.errors.length; i++) {
+            if (task.errors[i] == null)
+                continue;
+
+            if (failures == null)
+                failures = new LinkedHashMap<>();
+
+            failures.put(names.get(i), task.errors[i]);
+        }
+
+        if (failures == null)
+            return;
+
+        if (failures.size() == 1)
+            throw failures.values().iterator().next();
+
+        throw new ConfigurationValidationException(failures);
+    }
+
+    /**
+     * Collect members whose validators depend on the element or any of its ancestors.
+     * @param qualifiedName Qualified name of the changed element.
+     * @param res Set to add member keys to.
+     */
+    private void collectDependents(String qualifiedName, Set<MemberKey> res) {
+        for (int i = 0; i < qualifiedName.length(); i++) {
+            final char c = qualifiedName.charAt(i);
+
+            if (c == '.' || c == '[')
+                addDependents(qualifiedName.substring(0, i), res);
+        }
+
+        addDependents(qualifiedName, res);
+    }
+
+    /**
+     * Add members whose validators depend on the element.
+     * @param qualifiedName Qualified name of the element.
+     * @param res Set to add member keys to.
+     */
+    private void addDependents(String qualifiedName, Set<MemberKey> res) {
+        final Set<MemberKey> keys = dependents.get(qualifiedName);
+
+        if (keys != null)
+            res.addAll(keys);
+    }
+
+    /**
+     * Split qualified name into keys of the nodes on the path from the root, root key excluded.
+     * @param qualifiedName Qualified name, like {@code root.inner.named[name].field}.
+     * @return Keys.
+     */
+    private static String[] path(String qualifiedName) {
+        final List<String> res = new ArrayList<>();
+
+        for (String part : qualifiedName.split("\\.")) {
+            final int start = part.indexOf('[');
+
+            if (start != -1 && part.endsWith("]")) {
+                res.add(part.substring(0, start));
+                res.add(part.substring(start + 1, part.length() - 1));
+            }
+            else
+                res.add(part);
+        }
+
+        return res.subList(1, res.size()).toArray(new String[0]);
+    }
+
+    /**
+     * Find configuration element by path.
+     * @param root Configuration root.
+     * @param path Keys of the nodes on the path from the root.
+     * @return Configuration element or {@code null} if there's no such element.
+     */
+    private static Modifier<?, ?, ?> resolve(DynamicConfiguration<?, ?, ?> root, String[] path) {
+        Modifier<?, ?, ?> node = root;
+
+        for (String key : path) {
+            if (!(node instanceof DynamicConfiguration))
+                return null;
+
+            node = ((DynamicConfiguration<?, ?, ?>) node).member(key);
+
+            if (node == null)
+                return null;
+        }
+
+        return node;
+    }
+
+    /**
+     * Validation of a range of properties. Range is split in halves until it's small enough, failures are stored by
+     * property index, so the report doesn't depend on the order the tasks are completed in.
+     */
+    private static final class ValidationTask extends RecursiveAction {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Properties to validate. */
+        private final List<Modifier<?, ?, ?>> properties;
+
+        /** New configuration root. */
+        private final DynamicConfiguration<?, ?, ?> newRoot;
+
+        /** Old configuration root. */
+        private final DynamicConfiguration<?, ?, ?> oldRoot;
+
+        /** Failures by property index, shared by all tasks. */
+        private final ConfigurationValidationException[] errors;
+
+        /** Index of the first property of the range. */
+        private final int from;
+
+        /** Index after the last property of the range. */
+        private final int to;
+
+        /**
+         * Constructor.
+         * @param properties Properties to validate.
+         * @param newRoot New configuration root.
+         * @param oldRoot Old configuration root.
+         * @param errors Failures by property index.
+         * @param from Index of the first property of the range.
+         * @param to Index after the last property of the range.
+         */
+        private ValidationTask(
+            List<Modifier<?, ?, ?>> properties,
+            DynamicConfiguration<?, ?, ?> newRoot,
+            DynamicConfiguration<?, ?, ?> oldRoot,
+            ConfigurationValidationException[] errors,
+            int from,
+            int to
+        ) {
+            this.properties = properties;
+            this.newRoot = newRoot;
+            this.oldRoot = oldRoot;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                validateRange();
+
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+
+            invokeAll(
+                new ValidationTask(properties, newRoot, oldRoot, errors, from, mid),
+                new ValidationTask(properties, newRoot, oldRoot, errors, mid, to)
+            );
+        }
+
+        /**
+         * Validate properties of the range on the current thread.
+         */
+        private void validateRange() {
+            for (int i = from; i < to; i++) {
+                try {
+                    properties.get(i).validate(newRoot, oldRoot);
+                }
+                catch (ConfigurationValidationException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation;
+
+import java.io.IOException;
+
+/**
+ * Text codec of configuration VIEW, INIT and CHANGE objects. Codecs are generated by the annotation processor
+ * together with the objects and are available through {@link PresentationCodecRegistry}.
+ * <p>
+ * Encoded object has an element per non-null field, named after the field. Reader skips unknown elements and leaves
+ * absent fields {@code null}.
+ * @param <T> Type of the object.
+ */
+public interface PresentationCodec<T> {
+    /**
+     * Write object.
+     * @param out Output.
+     * @param obj Object, not {@code null}.
+     * @throws IOException If failed.
+     */
+    void write(PresentationWriter out, T obj) throws IOException;
+
+    /**
+     * Read object.
+     * @param in Input positioned on the beginning of the object.
+     * @return Object.
+     * @throws IOException If failed.
+     */
+    T read(PresentationReader in) throws IOException;
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.configuration.internal.NamedList;
+
+/**
+ * Registry of text configuration codecs. Generated VIEW, INIT and CHANGE classes register their codecs when they are
+ * loaded. Registry also provides nullable reads and writes of the values that generated codecs are built of.
+ */
+public final class PresentationCodecRegistry {
+    /** Codecs by class, {@link #NO_CODEC} for initialized classes that have no codec. */
+    private static final ConcurrentMap<Class<?>, PresentationCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+    /** Marker of classes that have no codec, so lookups of such classes don't initialize them over and over. */
+    private static final PresentationCodec<?> NO_CODEC = new PresentationCodec<Object>() {
+        /** {@inheritDoc} */
+        @Override public void write(PresentationWriter out, Object obj) {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object read(PresentationReader in) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    /** */
+    private PresentationCodecRegistry() {
+        // No-op.
+    }
+
+    /**
+     * Register codec.
+     * @param cls Class of objects.
+     * @param codec Codec.
+     * @param <T> Type of objects.
+     */
+    public static <T> void register(Class<T> cls, PresentationCodec<T> codec) {
+        CODECS.put(cls, codec);
+    }
+
+    /**
+     * Get codec of the class, initializing the class if it hasn't been initialized yet. Classes without a codec are
+     * remembered, so only the first lookup of such class initializes it.
+     * @param cls Class of objects.
+     * @param <T> Type of objects.
+     * @return Codec or {@code null} if class has no codec.
+     */
+    public static <T> PresentationCodec<T> codec(Class<T> cls) {
+        PresentationCodec<?> codec = CODECS.get(cls);
+
+        if (codec == null) {
+            try {
+                // Generated classes register their codecs on initialization.
+                Class.forName(cls.getName(), true, cls.getClassLoader());
+            }
+            catch (ClassNotFoundException ignored) {
+                // Class is not visible to its own loader by name, it can't register a codec either.
+            }
+
+            // Class is initialized by now, so it has either registered its codec or never will.
+            codec = CODECS.computeIfAbsent(cls, k -> NO_CODEC);
+        }
+
+        return codec == NO_CODEC ? null : (PresentationCodec<T>) codec;
+    }
+
+    /**
+     * Write nullable object with the codec.
+     * @param out Output.
+     * @param codec Codec.
+     * @param obj Object.
+     * @param <T> Type of the object.
+     * @throws IOException If failed.
+     */
+    public static <T> void write(PresentationWriter out, PresentationCodec<T> codec, T obj) throws IOException {
+        if (obj == null)
+            out.nullValue();
+        else
+            codec.write(out, obj);
+    }
+
+    /**
+     * Read nullable object with the codec.
+     * @param in Input.
+     * @param codec Codec.
+     * @param <T> Type of the object.
+     * @return Object.
+     * @throws IOException If failed.
+     */
+    public static <T> T read(PresentationReader in, PresentationCodec<T> codec) throws IOException {
+        return in.nextNull() ? null : codec.read(in);
+    }
+
+    /**
+     * Write nullable named list as an object with an element per name.
+     * @param out Output.
+     * @param codec Codec of the elements.
+     * @param list Named list.
+     * @param <T> Type of the elements.
+     * @throws IOException If failed.
+     */
+    public static <T> void writeNamedList(PresentationWriter out, PresentationCodec<T> codec, NamedList<T> list) throws IOException {
+        if (list == null) {
+            out.nullValue();
+
+            return;
+        }
+
+        out.beginObject();
+
+        for (Map.Entry<String, T> entry : list.getValues().entrySet()) {
+            out.name(entry.getKey());
+
+            write(out, codec, entry.getValue());
+        }
+
+        out.endObject();
+    }
+
+    /**
+     * Read nullable named list written by {@link #writeNamedList}. The {@code {"values": {...}}} shape of named lists
+     * serialized by reflection is not recognized, {@code values} is read as a name of a named configuration.
+     * @param in Input.
+     * @param codec Codec of the elements.
+     * @param <T> Type of the elements.
+     * @return Named list.
+     * @throws IOException If failed.
+     */
+    public static <T> NamedList<T> readNamedList(PresentationReader in, PresentationCodec<T> codec) throws IOException {
+        if (in.nextNull())
+            return null;
+
+        final Map<String, T> values = new LinkedHashMap<>();
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            final String key = in.nextName();
+
+            values.put(key, read(in, codec));
+        }
+
+        in.endObject();
+
+        return new NamedList<>(values);
+    }
+
+    /**
+     * Read nullable string.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static String readString(PresentationReader in) throws IOException {
+        return in.nextNull() ? null : in.nextString();
+    }
+
+    /**
+     * Read nullable int.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static Integer readInt(PresentationReader in) throws IOException {
+        return in.nextNull() ? null : in.nextInt();
+    }
+
+    /**
+     * Read nullable long.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static Long readLong(PresentationReader in) throws IOException {
+        return in.nextNull() ? null : in.nextLong();
+    }
+
+    /**
+     * Read nullable double.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static Double readDouble(PresentationReader in) throws IOException {
+        return in.nextNull() ? null : in.nextDouble();
+    }
+
+    /**
+     * Read nullable boolean.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static Boolean readBoolean(PresentationReader in) throws IOException {
+        return in.nextNull() ? null : in.nextBoolean();
+    }
+
+    /**
+     * Write value of a type that has no dedicated writer method.
+     * @param out Output.
+     * @param val Value.
+     * @throws IOException If value type is not supported.
+     */
+    public static void writeValue(PresentationWriter out, Object val) throws IOException {
+        if (val == null)
+            out.nullValue();
+        else if (val instanceof Number)
+            out.value((Number) val);
+        else if (val instanceof Boolean)
+            out.value((Boolean) val);
+        else if (val instanceof String || val instanceof Character)
+            out.value(val.toString());
+        else {
+            final PresentationCodec<Object> codec = (PresentationCodec<Object>) codec(val.getClass());
+
+            if (codec == null)
+                throw new IOException("Unsupported configuration value type: " + val.getClass().getName());
+
+            codec.write(out, val);
+        }
+    }
+
+    /**
+     * Read value of a type that has no dedicated reader method.
+     * @param in Input.
+     * @param cls Value class.
+     * @param <T> Value type.
+     * @return Value.
+     * @throws IOException If value type is not supported.
+     */
+    public static <T> T readValue(PresentationReader in, Class<T> cls) throws IOException {
+        if (in.nextNull())
+            return null;
+
+        final Object res;
+
+        if (cls == Short.class)
+            res = (short) in.nextInt();
+        else if (cls == Byte.class)
+            res = (byte) in.nextInt();
+        else if (cls == Float.class)
+            res = (float) in.nextDouble();
+        else if (cls == Character.class) {
+            final String str = in.nextString();
+
+            if (str.length() != 1)
+                throw new IOException("Expected a single character: " + str);
+
+            res = str.charAt(0);
+        }
+        else {
+            final PresentationCodec<T> codec = codec(cls);
+
+            if (codec == null)
+                throw new IOException("Unsupported configuration value type: " + cls.getName());
+
+            res = codec.read(in);
+        }
+
+        return (T) res;
+    }
+}
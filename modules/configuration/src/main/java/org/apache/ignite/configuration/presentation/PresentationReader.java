@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation;
+
+import java.io.IOException;
+
+/**
+ * Pull reader of a text configuration format, like JSON or HOCON. Reader is positioned on a token stream and every
+ * call consumes the next token, the same way as {@code com.google.gson.stream.JsonReader} does.
+ */
+public interface PresentationReader {
+    /**
+     * Consume the beginning of an object.
+     * @throws IOException If next token is not the beginning of an object.
+     */
+    void beginObject() throws IOException;
+
+    /**
+     * Consume the end of an object.
+     * @throws IOException If next token is not the end of an object.
+     */
+    void endObject() throws IOException;
+
+    /**
+     * Check whether current object has more elements.
+     * @return {@code true} if there are more elements.
+     * @throws IOException If failed.
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Consume the name of the next element of an object.
+     * @return Name.
+     * @throws IOException If next token is not a name.
+     */
+    String nextName() throws IOException;
+
+    /**
+     * Consume a string value.
+     * @return Value.
+     * @throws IOException If next token is not a string.
+     */
+    String nextString() throws IOException;
+
+    /**
+     * Consume an int value.
+     * @return Value.
+     * @throws IOException If next token is not a number.
+     */
+    int nextInt() throws IOException;
+
+    /**
+     * Consume a long value.
+     * @return Value.
+     * @throws IOException If next token is not a number.
+     */
+    long nextLong() throws IOException;
+
+    /**
+     * Consume a double value.
+     * @return Value.
+     * @throws IOException If next token is not a number.
+     */
+    double nextDouble() throws IOException;
+
+    /**
+     * Consume a boolean value.
+     * @return Value.
+     * @throws IOException If next token is not a boolean.
+     */
+    boolean nextBoolean() throws IOException;
+
+    /**
+     * Consume the next value if it is {@code null}.
+     * @return {@code true} if {@code null} was consumed, {@code false} if next value is not {@code null}.
+     * @throws IOException If failed.
+     */
+    boolean nextNull() throws IOException;
+
+    /**
+     * Skip the next value together with its nested elements.
+     * @throws IOException If failed.
+     */
+    void skipValue() throws IOException;
+}
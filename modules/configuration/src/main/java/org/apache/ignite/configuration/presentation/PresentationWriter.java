@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation;
+
+import java.io.IOException;
+
+/**
+ * Push writer of a text configuration format, like JSON or HOCON. Mirrors {@link PresentationReader}.
+ */
+public interface PresentationWriter {
+    /**
+     * Begin an object.
+     * @throws IOException If failed.
+     */
+    void beginObject() throws IOException;
+
+    /**
+     * End current object.
+     * @throws IOException If failed.
+     */
+    void endObject() throws IOException;
+
+    /**
+     * Write the name of the next element of current object.
+     * @param name Name.
+     * @throws IOException If failed.
+     */
+    void name(String name) throws IOException;
+
+    /**
+     * Write a string value.
+     * @param val Value, {@code null} is written as {@code null}.
+     * @throws IOException If failed.
+     */
+    void value(String val) throws IOException;
+
+    /**
+     * Write a number value.
+     * @param val Value, {@code null} is written as {@code null}.
+     * @throws IOException If failed.
+     */
+    void value(Number val) throws IOException;
+
+    /**
+     * Write a boolean value.
+     * @param val Value, {@code null} is written as {@code null}.
+     * @throws IOException If failed.
+     */
+    void value(Boolean val) throws IOException;
+
+    /**
+     * Write {@code null}.
+     * @throws IOException If failed.
+     */
+    void nullValue() throws IOException;
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.configuration.internal.NamedList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Registry of configuration codecs. Generated VIEW, INIT and CHANGE classes register their codecs when they are
+ * loaded. Registry also defines the single binary encoding of configuration values, used by storages as well:
+ * numbers, strings and booleans are written as is, named lists element by element, objects with registered codecs
+ * by the codec. Values of other types can't be encoded.
+ */
+public final class CodecRegistry {
+    /** */
+    private static final byte NULL = 0;
+
+    /** */
+    private static final byte INT = 1;
+
+    /** */
+    private static final byte LONG = 2;
+
+    /** */
+    private static final byte BOOLEAN = 3;
+
+    /** */
+    private static final byte STRING = 4;
+
+    /** */
+    private static final byte DOUBLE = 5;
+
+    /** */
+    private static final byte NAMED_LIST = 6;
+
+    /** */
+    private static final byte CODEC = 7;
+
+    /** Codecs by class. */
+    private static final ConcurrentMap<Class<?>, ConfigurationCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+    /**
+     * Codecs by class name. Encoded values refer to their codecs by name, which is only looked up among registered
+     * codecs, so reading a value never loads or initializes a class named by the input.
+     */
+    private static final ConcurrentMap<String, ConfigurationCodec<?>> CODECS_BY_NAME = new ConcurrentHashMap<>();
+
+    /** */
+    private CodecRegistry() {
+        // No-op.
+    }
+
+    /**
+     * Register codec.
+     * @param cls Class of objects.
+     * @param codec Codec.
+     * @param <T> Type of objects.
+     */
+    public static <T> void register(Class<T> cls, ConfigurationCodec<T> codec) {
+        CODECS.put(cls, codec);
+        CODECS_BY_NAME.put(cls.getName(), codec);
+    }
+
+    /**
+     * Get codec of the class.
+     * @param cls Class of objects.
+     * @param <T> Type of objects.
+     * @return Codec or {@code null} if class has no codec.
+     */
+    public static <T> ConfigurationCodec<T> codec(Class<T> cls) {
+        return (ConfigurationCodec<T>) CODECS.get(cls);
+    }
+
+    /**
+     * Write nullable object with the codec. Object is prefixed with its length, so readers of older schema versions
+     * can skip fields they don't know.
+     * @param out Output.
+     * @param codec Codec.
+     * @param obj Object.
+     * @param <T> Type of the object.
+     * @throws IOException If failed.
+     */
+    public static <T> void write(DataOutput out, ConfigurationCodec<T> codec, T obj) throws IOException {
+        if (obj == null) {
+            out.writeInt(-1);
+
+            return;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        codec.write(new DataOutputStream(bytes), obj);
+
+        out.writeInt(bytes.size());
+        out.write(bytes.toByteArray());
+    }
+
+    /**
+     * Read nullable object written by {@link #write(DataOutput, ConfigurationCodec, Object)}.
+     * @param in Input.
+     * @param codec Codec.
+     * @param <T> Type of the object.
+     * @return Object.
+     * @throws IOException If failed.
+     */
+    public static <T> T read(DataInput in, ConfigurationCodec<T> codec) throws IOException {
+        final int len = in.readInt();
+
+        if (len < 0)
+            return null;
+
+        final byte[] bytes = new byte[len];
+
+        in.readFully(bytes);
+
+        return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Write nullable named list.
+     * @param out Output.
+     * @param codec Codec of the elements.
+     * @param list Named list.
+     * @param <T> Type of the elements.
+     * @throws IOException If failed.
+     */
+    public static <T> void writeNamedList(DataOutput out, ConfigurationCodec<T> codec, NamedList<T> list) throws IOException {
+        if (list == null) {
+            out.writeInt(-1);
+
+            return;
+        }
+
+        final Map<String, T> values = list.getValues();
+
+        out.writeInt(values.size());
+
+        for (Map.Entry<String, T> entry : values.entrySet()) {
+            out.writeUTF(entry.getKey());
+
+            write(out, codec, entry.getValue());
+        }
+    }
+
+    /**
+     * Read nullable named list written by {@link #writeNamedList}.
+     * @param in Input.
+     * @param codec Codec of the elements.
+     * @param <T> Type of the elements.
+     * @return Named list.
+     * @throws IOException If failed.
+     */
+    public static <T> NamedList<T> readNamedList(DataInput in, ConfigurationCodec<T> codec) throws IOException {
+        final int size = in.readInt();
+
+        if (size < 0)
+            return null;
+
+        final Map<String, T> values = new HashMap<>(size * 4 / 3 + 1);
+
+        for (int i = 0; i < size; i++) {
+            final String key = in.readUTF();
+
+            values.put(key, read(in, codec));
+        }
+
+        return new NamedList<>(values);
+    }
+
+    /**
+     * Write value together with its type.
+     * @param out Output.
+     * @param val Value.
+     * @throws IOException If failed or if value has a type that can't be encoded.
+     */
+    public static void writeValue(DataOutput out, Object val) throws IOException {
+        if (val == null)
+            out.writeByte(NULL);
+        else if (val instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) val);
+        }
+        else if (val instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) val);
+        }
+        else if (val instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) val);
+        }
+        else if (val instanceof String) {
+            final byte[] bytes = ((String) val).getBytes(UTF_8);
+
+            out.writeByte(STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        else if (val instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) val);
+        }
+        else if (val instanceof NamedList) {
+            final Map<String, ?> values = ((NamedList<?>) val).getValues();
+
+            out.writeByte(NAMED_LIST);
+            out.writeInt(values.size());
+
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                out.writeUTF(entry.getKey());
+
+                writeValue(out, entry.getValue());
+            }
+        }
+        else {
+            final ConfigurationCodec<Object> codec = (ConfigurationCodec<Object>) CODECS.get(val.getClass());
+
+            if (codec == null)
+                throw new IOException("No codec registered for configuration class: " + val.getClass().getName());
+
+            out.writeByte(CODEC);
+            out.writeUTF(val.getClass().getName());
+
+            write(out, codec, val);
+        }
+    }
+
+    /**
+     * Read value written by {@link #writeValue}.
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    public static Object readValue(DataInput in) throws IOException {
+        final byte type = in.readByte();
+
+        switch (type) {
+            case NULL:
+                return null;
+
+            case INT:
+                return in.readInt();
+
+            case LONG:
+                return in.readLong();
+
+            case BOOLEAN:
+                return in.readBoolean();
+
+            case STRING: {
+                final byte[] bytes = new byte[in.readInt()];
+
+                in.readFully(bytes);
+
+                return new String(bytes, UTF_8);
+            }
+
+            case DOUBLE:
+                return in.readDouble();
+
+            case NAMED_LIST: {
+                final int size = in.readInt();
+
+                final Map<String, Object> values = new HashMap<>(size * 4 / 3 + 1);
+
+                for (int i = 0; i < size; i++) {
+                    final String key = in.readUTF();
+
+                    values.put(key, readValue(in));
+                }
+
+                return new NamedList<>(values);
+            }
+
+            case CODEC: {
+                final String clsName = in.readUTF();
+
+                final ConfigurationCodec<?> codec = CODECS_BY_NAME.get(clsName);
+
+                if (codec == null)
+                    throw new IOException("No codec registered for configuration class: " + clsName);
+
+                return read(in, codec);
+            }
+
+            default:
+                throw new IOException("Unknown configuration value type: " + type);
+        }
+    }
+}
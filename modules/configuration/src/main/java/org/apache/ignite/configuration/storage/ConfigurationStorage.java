@@ -17,22 +17,82 @@
 package org.apache.ignite.configuration.storage;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
- * Storage interface for configuration.
+ * Storage interface for configuration. {@code null} value of a property is a tombstone: the property has been removed
+ * together with its named configuration, and the storage no longer returns it.
  */
 public interface ConfigurationStorage {
     /**
      * Save configuration property.
      *
      * @param propertyName Fully qualified name of the property.
-     * @param object Object, that represents the value of the property.
+     * @param object Object, that represents the value of the property, {@code null} if property was removed.
      * @param <T> Type of the property.
      * @throws StorageException If failed to save object.
      */
     <T extends Serializable> void save(String propertyName, T object) throws StorageException;
 
+    /**
+     * Save several configuration properties with a single write. Default implementation saves them one by one.
+     *
+     * @param values Values of the properties by fully qualified names.
+     * @throws StorageException If failed to save objects.
+     */
+    default void saveAll(Map<String, ? extends Serializable> values) throws StorageException {
+        for (Map.Entry<String, ? extends Serializable> entry : values.entrySet())
+            save(entry.getKey(), entry.getValue());
+    }
+
+    /**
+     * Save several configuration properties with a single write if the storage has not been changed since the given
+     * revision. Successful write increments the revision. Default implementation doesn't track revisions and always
+     * saves the values.
+     *
+     * @param values Values of the properties by fully qualified names.
+     * @param expectedRevision Revision of the storage that the values are based on.
+     * @return {@code true} if values were saved, {@code false} if storage has been changed since the revision.
+     * @throws StorageException If failed to save objects.
+     */
+    default boolean saveAll(Map<String, ? extends Serializable> values, long expectedRevision) throws StorageException {
+        saveAll(values);
+
+        return true;
+    }
+
+    /**
+     * Get revision of the storage, incremented by every write. Default implementation doesn't track revisions.
+     *
+     * @return Revision, {@code 0} if nothing has been saved.
+     * @throws StorageException If failed to read the revision.
+     */
+    default long revision() throws StorageException {
+        return 0;
+    }
+
+    /**
+     * Get values of all properties of the subtree.
+     *
+     * @param prefix Fully qualified name of the subtree.
+     * @return Values by fully qualified property names.
+     * @throws StorageException If failed to read values.
+     */
+    Map<String, Serializable> getAll(String prefix) throws StorageException;
+
+    /**
+     * Watch for writes to the subtree. Consumer gets one event per write that changed the subtree, in revision
+     * order, starting with writes made after the given revision. If the storage no longer has these writes, consumer
+     * gets a single event with all current values of the subtree.
+     *
+     * @param prefix Fully qualified name of the subtree.
+     * @param fromRevision Revision that the consumer has already seen.
+     * @param consumer Consumer of the events.
+     * @throws StorageException If failed to start watching.
+     */
+    void watch(String prefix, long fromRevision, Consumer<StorageEvent> consumer) throws StorageException;
+
     /**
      * Get property value from storage.
      *
@@ -43,14 +103,4 @@ public interface ConfigurationStorage {
      */
     <T extends Serializable> T get(String propertyName) throws StorageException;
 
-    /**
-     * Listen for the property change in the storage.
-     *
-     * @param key Key to listen on.
-     * @param listener Listener function.
-     * @param <T> Type of the property.
-     * @throws StorageException If failed to attach listener to configuration storage.
-     */
-    <T extends Serializable> void listen(String key, Consumer<T> listener) throws StorageException;
-
 }
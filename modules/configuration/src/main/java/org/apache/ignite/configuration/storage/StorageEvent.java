@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Values saved to the storage by a single write.
+ */
+public class StorageEvent {
+    /** Revision of the storage after the write. */
+    private final long revision;
+
+    /** Saved values by fully qualified property names. */
+    private final Map<String, Serializable> values;
+
+    /**
+     * Constructor.
+     * @param revision Revision of the storage after the write.
+     * @param values Saved values by fully qualified property names.
+     */
+    public StorageEvent(long revision, Map<String, Serializable> values) {
+        this.revision = revision;
+        this.values = values;
+    }
+
+    /**
+     * Get revision of the storage after the write.
+     * @return Revision.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    /**
+     * Get saved values.
+     * @return Values by fully qualified property names.
+     */
+    public Map<String, Serializable> values() {
+        return values;
+    }
+
+    /**
+     * Check whether property belongs to the subtree with the given prefix.
+     * @param key Fully qualified name of the property.
+     * @param prefix Fully qualified name of the subtree, empty string for all properties.
+     * @return {@code true} if property belongs to the subtree.
+     */
+    public static boolean matches(String key, String prefix) {
+        if (prefix.isEmpty())
+            return true;
+
+        if (!key.startsWith(prefix))
+            return false;
+
+        if (key.length() == prefix.length())
+            return true;
+
+        final char next = key.charAt(prefix.length());
+
+        return next == '.' || next == '[';
+    }
+}
@@ -17,14 +17,68 @@
 
 package org.apache.ignite.configuration.validation;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
- * Configuration validation exception.
+ * Configuration validation exception. Exception thrown for a change that failed several validators has all the
+ * failures, see {@link #failures()}.
  */
 public class ConfigurationValidationException extends RuntimeException {
+    /** Maximum number of failures to list in the message. */
+    private static final int MAX_LISTED = 10;
+
+    /** Failures by qualified names of the validated properties, empty if this is a single failure. */
+    private final Map<String, ConfigurationValidationException> failures;
 
     /** Constructor. */
     public ConfigurationValidationException(String message) {
         super(message);
+
+        failures = Collections.emptyMap();
+    }
+
+    /**
+     * Constructor of the report of several failures.
+     * @param failures Failures by qualified names of the validated properties, in validation order.
+     */
+    public ConfigurationValidationException(Map<String, ConfigurationValidationException> failures) {
+        super(message(failures));
+
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get failures of the validated properties.
+     * @return Failures by qualified names of the properties, empty if this is a single failure.
+     */
+    public Map<String, ConfigurationValidationException> failures() {
+        return failures;
     }
 
+    /**
+     * Create message of the report.
+     * @param failures Failures by qualified names of the validated properties.
+     * @return Message.
+     */
+    private static String message(Map<String, ConfigurationValidationException> failures) {
+        final StringBuilder sb = new StringBuilder("Validation of ").append(failures.size()).append(" properties failed: ");
+
+        int listed = 0;
+
+        for (Map.Entry<String, ConfigurationValidationException> failure : failures.entrySet()) {
+            if (listed == MAX_LISTED) {
+                sb.append(", ...");
+
+                break;
+            }
+
+            if (listed++ > 0)
+                sb.append(", ");
+
+            sb.append(failure.getKey()).append(" [").append(failure.getValue().getMessage()).append(']');
+        }
+
+        return sb.toString();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.configuration.validation;
 
 import java.io.Serializable;
+import java.util.Collection;
 import org.apache.ignite.configuration.ConfigurationTree;
 
 /**
@@ -44,4 +45,15 @@ public abstract class FieldValidator<T extends Serializable, C extends Configura
      */
     public abstract void validate(T value, C newRoot, C oldRoot) throws ConfigurationValidationException;
 
+    /**
+     * Get fully qualified names of configuration elements, other than the validated field, that this validator reads.
+     * Validator is run when the field or any of these elements (or their descendants) change. Default implementation
+     * returns {@code null}, which means that validator may read any element and must be run on every change.
+     *
+     * @return Qualified names of elements or {@code null} if unknown.
+     */
+    public Collection<String> dependencies() {
+        return null;
+    }
+
 }
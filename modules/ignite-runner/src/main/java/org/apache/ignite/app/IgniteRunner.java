@@ -21,6 +21,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import org.apache.ignite.configuration.ConfigurationModule;
 import org.apache.ignite.rest.RestModule;
 import org.apache.ignite.utils.IgniteProperties;
@@ -52,6 +54,15 @@ public class IgniteRunner {
     /** */
     private static final String DFLT_CONF_FILE_NAME = "bootstrap-config.json";
 
+    /** */
+    private static final String WORK_DIR_PARAM_NAME = "--work-dir";
+
+    /** */
+    private static final String DFLT_WORK_DIR = "work";
+
+    /** */
+    private static final String CONF_STORAGE_DIR_NAME = "config";
+
     /** */
     private static final String VER_KEY = "version";
 
@@ -63,7 +74,11 @@ public class IgniteRunner {
      *
      * To make application pick up custom configuration file its full path should be passed to arguments after key "--config".
      *
-     * @param args Empty or providing path to custom configuration file after marker parameter "--config".
+     * Configuration is stored in the work directory, which is "work" by default and can be changed with "--work-dir".
+     * Configuration file is only read if the work directory has no stored configuration.
+     *
+     * @param args Empty or providing path to custom configuration file after marker parameter "--config" and path to
+     *      work directory after marker parameter "--work-dir".
      */
     public static void main(String[] args) throws IOException {
         ackBanner();
@@ -72,14 +87,15 @@ public class IgniteRunner {
 
         Reader confReader = null;
 
+        Path workDir = Paths.get(DFLT_WORK_DIR);
+
         try {
             if (args != null) {
-                for (int i = 0; i < args.length; i++) {
-                    if (CONF_PARAM_NAME.equals(args[i]) && i + 1 < args.length) {
+                for (int i = 0; i + 1 < args.length; i++) {
+                    if (CONF_PARAM_NAME.equals(args[i]) && confReader == null)
                         confReader = new FileReader(args[i + 1]);
-
-                        break;
-                    }
+                    else if (WORK_DIR_PARAM_NAME.equals(args[i]))
+                        workDir = Paths.get(args[i + 1]);
                 }
             }
 
@@ -88,13 +104,15 @@ public class IgniteRunner {
                     IgniteRunner.class.getClassLoader().getResourceAsStream(DFLT_CONF_FILE_NAME));
             }
 
-            confModule.bootstrap(confReader);
+            confModule.bootstrap(workDir.resolve(CONF_STORAGE_DIR_NAME), confReader);
         }
         finally {
             if (confReader != null)
                 confReader.close();
         }
 
+        Runtime.getRuntime().addShutdownHook(new Thread(confModule::stop));
+
         RestModule rest = new RestModule(confModule, log);
 
         rest.start();
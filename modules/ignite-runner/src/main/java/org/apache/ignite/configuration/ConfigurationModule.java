@@ -19,64 +19,87 @@ package org.apache.ignite.configuration;
 
 import java.io.Reader;
 import java.io.Serializable;
-import java.util.function.Consumer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.ignite.configuration.extended.InitLocal;
 import org.apache.ignite.configuration.extended.LocalConfigurationImpl;
-import org.apache.ignite.configuration.extended.Selectors;
+import org.apache.ignite.configuration.internal.DynamicProperty;
 import org.apache.ignite.configuration.presentation.FormatConverter;
 import org.apache.ignite.configuration.presentation.json.JsonConverter;
-import org.apache.ignite.configuration.storage.ConfigurationStorage;
+import org.apache.ignite.configuration.storage.FileConfigurationStorage;
 
 /**
  * Module is responsible for preparing configuration when module is started.
  *
  * Preparing configuration includes reading it from configuration file, parsing it and initializing
- * {@link Configurator} object.
+ * {@link Configurator} object. Configuration is kept in the local storage, configuration file is only read on the
+ * first start, later starts restore configuration from the storage.
  */
 public class ConfigurationModule {
-    static {
-        try {
-            Selectors.LOCAL_BASELINE_AUTO_ADJUST_ENABLED.select(null);
-        }
-        catch (Throwable ignored) {
-            // No-op.
-        }
-    }
+    /** */
+    private FileConfigurationStorage storage;
 
     /** */
-    private final ConfigurationStorage storage = new ConfigurationStorage() {
-        /** {@inheritDoc} */
-        @Override public <T extends Serializable> void save(String propertyName, T object) {
+    private Configurator<LocalConfigurationImpl> localConfigurator;
 
-        }
+    /**
+     * Start the module.
+     * @param storageDir Directory of the local configuration storage.
+     * @param confReader Reader of the bootstrap configuration.
+     */
+    public void bootstrap(Path storageDir, Reader confReader) {
+        storage = new FileConfigurationStorage(storageDir);
 
-        /** {@inheritDoc} */
-        @Override public <T extends Serializable> T get(String propertyName) {
-            return null;
-        }
+        if (storage.isEmpty()) {
+            FormatConverter converter = new JsonConverter();
 
-        /** {@inheritDoc} */
-        @Override public <T extends Serializable> void listen(String key, Consumer<T> listener) {
+            localConfigurator = Configurator.create(
+                storage,
+                LocalConfigurationImpl::new,
+                converter.convertFrom(confReader, "local", InitLocal.class)
+            );
 
-        }
-    };
+            // Save the whole bootstrap configuration, so next start doesn't need the file.
+            Map<String, Serializable> values = new LinkedHashMap<>();
 
-    /** */
-    private Configurator<LocalConfigurationImpl> localConfigurator;
+            collectValues(localConfigurator.getRoot(), values);
 
-    /** */
-    public void bootstrap(Reader confReader) {
-        FormatConverter converter = new JsonConverter();
-
-        Configurator<LocalConfigurationImpl> configurator =
-            Configurator.create(storage, LocalConfigurationImpl::new, converter.convertFrom(confReader, "local", InitLocal.class));
-
-        localConfigurator = configurator;
+            storage.saveAll(values);
+        }
+        else
+            localConfigurator = Configurator.create(storage, LocalConfigurationImpl::new);
     }
 
     /** */
     public Configurator<LocalConfigurationImpl> localConfigurator() {
         return localConfigurator;
     }
+
+    /**
+     * Stop the module.
+     */
+    public void stop() {
+        if (storage != null)
+            storage.close();
+    }
+
+    /**
+     * Collect values of all properties of the subtree.
+     * @param node Configuration node.
+     * @param values Values by fully qualified property names.
+     */
+    private static void collectValues(ConfigurationProperty<?, ?> node, Map<String, Serializable> values) {
+        if (node instanceof DynamicProperty) {
+            DynamicProperty<?> property = (DynamicProperty<?>) node;
+
+            if (property.value() != null)
+                values.put(property.qualifiedName(), property.value());
+        }
+        else if (node instanceof ConfigurationTree) {
+            for (ConfigurationProperty<?, ?> member : ((ConfigurationTree<?, ?>) node).members().values())
+                collectValues(member, values);
+        }
+    }
 }
@@ -17,47 +17,148 @@
 
 package org.apache.ignite.configuration.presentation.json;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 
 import com.google.gson.Gson;
-import java.util.HashMap;
-import java.util.Map;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 import org.apache.ignite.configuration.presentation.FormatConverter;
+import org.apache.ignite.configuration.presentation.PresentationCodec;
+import org.apache.ignite.configuration.presentation.PresentationCodecRegistry;
 
-/** */
+/**
+ * JSON converter. Configuration objects are read and written in a single pass over the token stream by the codecs
+ * generated for them, other objects are converted by Gson.
+ */
 public class JsonConverter implements FormatConverter {
     /** */
     private final Gson gson = new Gson();
 
     /** {@inheritDoc} */
     @Override public String convertTo(Object obj) {
-        return gson.toJson(obj);
+        final StringWriter res = new StringWriter();
+
+        try {
+            write(newWriter(res), obj);
+        }
+        catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+
+        return res.toString();
     }
 
     /** {@inheritDoc} */
     @Override public String convertTo(String rootName, Object src) {
-        Map<String, Object> res = new HashMap<>();
+        final StringWriter res = new StringWriter();
+
+        try {
+            final JsonWriter writer = newWriter(res);
+
+            writer.beginObject();
+            writer.name(rootName);
+
+            write(writer, src);
 
-        res.put(rootName, src);
+            writer.endObject();
+        }
+        catch (IOException e) {
+            throw new JsonIOException(e);
+        }
 
-        return gson.toJson(res);
+        return res.toString();
     }
 
     /** {@inheritDoc} */
     @Override public <T> T convertFrom(String source, String rootName, Class<T> clazz) {
-        Map map = gson.fromJson(source, Map.class);
-
-        String root = gson.toJson(map.get(rootName));
-
-        return gson.fromJson(root, clazz);
+        return convertFrom(new StringReader(source), rootName, clazz);
     }
 
     /** {@inheritDoc} */
     @Override public <T> T convertFrom(Reader source, String rootName, Class<T> clazz) {
-        Map map = gson.fromJson(source, Map.class);
+        final JsonReader reader = gson.newJsonReader(source);
+
+        try {
+            T res = null;
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                if (rootName.equals(reader.nextName()))
+                    res = read(reader, clazz);
+                else
+                    reader.skipValue();
+            }
+
+            reader.endObject();
+
+            return res;
+        }
+        catch (MalformedJsonException | EOFException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+        catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Create JSON writer. Generated codecs omit absent fields themselves, so nulls that reach the writer are
+     * meaningful, like named configurations removed by a change, and must be written.
+     * @param out Output.
+     * @return JSON writer.
+     * @throws IOException If failed.
+     */
+    private JsonWriter newWriter(StringWriter out) throws IOException {
+        final JsonWriter writer = gson.newJsonWriter(out);
+
+        writer.setSerializeNulls(true);
+
+        return writer;
+    }
+
+    /**
+     * Write object with its generated codec or with Gson if there's none.
+     * @param writer JSON writer.
+     * @param obj Object.
+     * @throws IOException If failed.
+     */
+    private void write(JsonWriter writer, Object obj) throws IOException {
+        if (obj == null) {
+            writer.nullValue();
+
+            return;
+        }
+
+        final PresentationCodec<Object> codec = (PresentationCodec<Object>) PresentationCodecRegistry.codec(obj.getClass());
+
+        if (codec != null)
+            codec.write(new JsonPresentationWriter(writer), obj);
+        else
+            gson.toJson(obj, obj.getClass(), writer);
+    }
+
+    /**
+     * Read object with its generated codec or with Gson if there's none.
+     * @param reader JSON reader.
+     * @param clazz Class of the object.
+     * @param <T> Type of the object.
+     * @return Object.
+     * @throws IOException If failed.
+     */
+    private <T> T read(JsonReader reader, Class<T> clazz) throws IOException {
+        final PresentationCodec<T> codec = PresentationCodecRegistry.codec(clazz);
 
-        String root = gson.toJson(map.get(rootName));
+        if (codec != null)
+            return PresentationCodecRegistry.read(new JsonPresentationReader(reader), codec);
 
-        return gson.fromJson(root, clazz);
+        return gson.fromJson(reader, clazz);
     }
 }
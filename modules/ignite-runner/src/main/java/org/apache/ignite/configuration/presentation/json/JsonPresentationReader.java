@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation.json;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import org.apache.ignite.configuration.presentation.PresentationReader;
+
+/**
+ * {@link PresentationReader} over a Gson token stream.
+ */
+class JsonPresentationReader implements PresentationReader {
+    /** JSON reader. */
+    private final JsonReader reader;
+
+    /**
+     * Constructor.
+     * @param reader JSON reader.
+     */
+    JsonPresentationReader(JsonReader reader) {
+        this.reader = reader;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void beginObject() throws IOException {
+        reader.beginObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void endObject() throws IOException {
+        reader.endObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean hasNext() throws IOException {
+        return reader.hasNext();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String nextName() throws IOException {
+        return reader.nextName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String nextString() throws IOException {
+        return reader.nextString();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int nextInt() throws IOException {
+        return reader.nextInt();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long nextLong() throws IOException {
+        return reader.nextLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override public double nextDouble() throws IOException {
+        return reader.nextDouble();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean nextBoolean() throws IOException {
+        return reader.nextBoolean();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean nextNull() throws IOException {
+        if (reader.peek() != JsonToken.NULL)
+            return false;
+
+        reader.nextNull();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void skipValue() throws IOException {
+        reader.skipValue();
+    }
+}
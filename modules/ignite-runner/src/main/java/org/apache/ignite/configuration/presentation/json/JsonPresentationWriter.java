@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.configuration.presentation.json;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.apache.ignite.configuration.presentation.PresentationWriter;
+
+/**
+ * {@link PresentationWriter} over a Gson token stream.
+ */
+class JsonPresentationWriter implements PresentationWriter {
+    /** JSON writer. */
+    private final JsonWriter writer;
+
+    /**
+     * Constructor.
+     * @param writer JSON writer.
+     */
+    JsonPresentationWriter(JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void beginObject() throws IOException {
+        writer.beginObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void endObject() throws IOException {
+        writer.endObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void name(String name) throws IOException {
+        writer.name(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void value(String val) throws IOException {
+        writer.value(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void value(Number val) throws IOException {
+        writer.value(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void value(Boolean val) throws IOException {
+        writer.value(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void nullValue() throws IOException {
+        writer.nullValue();
+    }
+}
@@ -0,0 +1,601 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Local configuration storage that keeps values in files of the given directory.
+ *
+ * Every write is appended to the change log as a single record and is flushed to disk before the write returns.
+ * Writers that append while a flush is in progress share the next flush, so a burst of writes costs one fsync. When
+ * the log grows over the threshold, all values are compacted into a binary snapshot and the log is truncated. On
+ * start the snapshot is memory-mapped and only the log is replayed, a torn record at the end of the log is discarded.
+ * Values of the snapshot are decoded when they are read, so start time depends on the size of the log rather than on
+ * the size of the configuration.
+ *
+ * Every write increments the revision of the storage. Writes since the last compaction are kept in memory, so
+ * watchers that are behind get the writes they missed, older watchers get the current values instead.
+ */
+public class FileConfigurationStorage implements ConfigurationStorage, AutoCloseable {
+    /** Snapshot file name. */
+    private static final String SNAPSHOT_FILE_NAME = "config.snapshot";
+
+    /** Change log file name. */
+    private static final String LOG_FILE_NAME = "config.log";
+
+    /** Default number of log records that triggers compaction. */
+    public static final int DFLT_COMPACTION_THRESHOLD = 1024;
+
+    /** Size of the record header: payload length and checksum. */
+    private static final int HEADER_SIZE = 8;
+
+    /** Storage directory. */
+    private final Path dir;
+
+    /** Number of log records that triggers compaction. */
+    private final int compactionThreshold;
+
+    /** Marker of properties removed after the snapshot. */
+    private static final Serializable TOMBSTONE = new Serializable() {};
+
+    /** Values written after the snapshot by fully qualified property names, removed ones are {@link #TOMBSTONE}. */
+    private final ConcurrentMap<String, Serializable> values = new ConcurrentHashMap<>();
+
+    /** Last snapshot, {@code null} if there's none. Replaced before {@link #values} are cleared. */
+    private volatile SnapshotFile snapshot;
+
+    /** Writes since the last compaction, guarded by {@link #writeMux}. */
+    private final List<StorageEvent> history = new ArrayList<>();
+
+    /** Watchers. */
+    private final List<Watch> watches = new CopyOnWriteArrayList<>();
+
+    /** Notifications that haven't been delivered yet, in revision order. */
+    private final Queue<Runnable> notifications = new ConcurrentLinkedQueue<>();
+
+    /** {@code true} while some thread delivers notifications. */
+    private final AtomicBoolean notifying = new AtomicBoolean();
+
+    /** Mutex for appending to the log. */
+    private final Object writeMux = new Object();
+
+    /** Mutex for flushing the log. */
+    private final Object syncMux = new Object();
+
+    /** Change log channel. */
+    private final FileChannel log;
+
+    /** Revision of the storage, written under {@link #writeMux}. */
+    private volatile long revision;
+
+    /** Revision of the last snapshot, guarded by {@link #writeMux}. */
+    private long snapshotRevision;
+
+    /** Number of records written since start. */
+    private volatile long written;
+
+    /** Number of records flushed to disk since start. */
+    private volatile long synced;
+
+    /**
+     * Constructor.
+     * @param dir Storage directory, created if doesn't exist.
+     * @throws StorageException If failed to read the storage.
+     */
+    public FileConfigurationStorage(Path dir) throws StorageException {
+        this(dir, DFLT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     * @param dir Storage directory, created if doesn't exist.
+     * @param compactionThreshold Number of log records that triggers compaction.
+     * @throws StorageException If failed to read the storage.
+     */
+    public FileConfigurationStorage(Path dir, int compactionThreshold) throws StorageException {
+        this.dir = dir;
+        this.compactionThreshold = compactionThreshold;
+
+        try {
+            Files.createDirectories(dir);
+
+            final Path snapshot = dir.resolve(SNAPSHOT_FILE_NAME);
+
+            if (Files.exists(snapshot)) {
+                this.snapshot = SnapshotFile.open(snapshot);
+
+                revision = snapshotRevision = this.snapshot.revision();
+            }
+
+            log = FileChannel.open(dir.resolve(LOG_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+            long validSize = 0;
+
+            final DataInputStream in = new DataInputStream(Channels.newInputStream(log));
+
+            for (StorageEvent record; (record = readRecord(in, log.size())) != null; ) {
+                validSize = log.position();
+
+                // Log may still have records that were compacted right before the node stopped.
+                if (record.revision() <= snapshotRevision)
+                    continue;
+
+                apply(record);
+
+                history.add(record);
+
+                revision = record.revision();
+            }
+
+            // Drop the record that was being written when the node stopped.
+            log.truncate(validSize);
+            log.position(validSize);
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to open configuration storage: " + dir, e);
+        }
+    }
+
+    /**
+     * Check whether storage has no values.
+     * @return {@code true} if nothing has been saved to the storage yet.
+     */
+    public boolean isEmpty() {
+        final SnapshotFile snapshot = this.snapshot;
+
+        return values.isEmpty() && (snapshot == null || snapshot.size() == 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T extends Serializable> void save(String propertyName, T object) throws StorageException {
+        saveAll(Collections.singletonMap(propertyName, object));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void saveAll(Map<String, ? extends Serializable> values) throws StorageException {
+        saveAll(values, -1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean saveAll(Map<String, ? extends Serializable> values, long expectedRevision) throws StorageException {
+        final HashMap<String, Serializable> copy = new HashMap<>(values);
+
+        final long seq;
+
+        try {
+            synchronized (writeMux) {
+                if (expectedRevision >= 0 && expectedRevision != revision)
+                    return false;
+
+                final StorageEvent record = new StorageEvent(revision + 1, copy);
+
+                final ByteBuffer buf = ByteBuffer.wrap(record(record));
+
+                while (buf.hasRemaining())
+                    log.write(buf);
+
+                apply(record);
+
+                history.add(record);
+
+                revision = record.revision();
+
+                for (Watch watch : watches)
+                    watch.offer(record);
+
+                seq = ++written;
+
+                if (history.size() >= compactionThreshold)
+                    compact();
+            }
+
+            notifyWatches();
+
+            sync(seq);
+
+            return true;
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to write configuration storage: " + dir, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T extends Serializable> T get(String propertyName) throws StorageException {
+        final Serializable value = values.get(propertyName);
+
+        if (value != null)
+            return value == TOMBSTONE ? null : (T) value;
+
+        // Snapshot is replaced before values are cleared, so the value can't be missed during compaction.
+        final SnapshotFile snapshot = this.snapshot;
+
+        return snapshot == null ? null : (T) snapshot.get(propertyName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long revision() {
+        return revision;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returned map reads through to the storage, values are decoded when they are accessed by key. Iteration decodes
+     * all values of the subtree.
+     */
+    @Override public Map<String, Serializable> getAll(String prefix) {
+        return new AbstractMap<String, Serializable>() {
+            /** {@inheritDoc} */
+            @Override public Serializable get(Object key) {
+                return key instanceof String && StorageEvent.matches((String) key, prefix) ?
+                    FileConfigurationStorage.this.get((String) key) : null;
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            /** {@inheritDoc} */
+            @Override public Set<Entry<String, Serializable>> entrySet() {
+                return collect(prefix).entrySet();
+            }
+        };
+    }
+
+    /**
+     * Collect current values of the subtree.
+     * @param prefix Fully qualified name of the subtree.
+     * @return Values sorted by key.
+     */
+    private SortedMap<String, Serializable> collect(String prefix) {
+        final SortedMap<String, Serializable> res = new TreeMap<>();
+
+        final SnapshotFile snapshot = this.snapshot;
+
+        if (snapshot != null)
+            snapshot.forEach(prefix, res::put);
+
+        for (Map.Entry<String, Serializable> entry : values.entrySet()) {
+            if (StorageEvent.matches(entry.getKey(), prefix)) {
+                if (entry.getValue() == TOMBSTONE)
+                    res.remove(entry.getKey());
+                else
+                    res.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Apply write to the values written after the snapshot.
+     * @param record Write.
+     */
+    private void apply(StorageEvent record) {
+        for (Map.Entry<String, Serializable> entry : record.values().entrySet())
+            values.put(entry.getKey(), entry.getValue() == null ? TOMBSTONE : entry.getValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void watch(String prefix, long fromRevision, Consumer<StorageEvent> consumer) {
+        final Watch watch = new Watch(prefix, consumer);
+
+        synchronized (writeMux) {
+            if (fromRevision < snapshotRevision) {
+                // Writes are compacted, so watcher catches up with current values. Removals are not delivered.
+                if (fromRevision < revision)
+                    watch.offer(new StorageEvent(revision, new HashMap<>(collect(prefix))));
+            }
+            else {
+                for (StorageEvent record : history) {
+                    if (record.revision() > fromRevision)
+                        watch.offer(record);
+                }
+            }
+
+            watches.add(watch);
+        }
+
+        notifyWatches();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws StorageException {
+        try {
+            synchronized (writeMux) {
+                log.close();
+            }
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to close configuration storage: " + dir, e);
+        }
+    }
+
+    /**
+     * Deliver pending notifications. Only one thread delivers at a time, other threads leave their notifications to
+     * it and don't wait, so watchers may safely write to the storage. Notifications of one watcher may thus run on
+     * the thread of a write made by another watcher, so failure of a watcher is reported to the uncaught exception
+     * handler of the thread rather than thrown from the write, which has already succeeded.
+     */
+    private void notifyWatches() {
+        while (!notifications.isEmpty() && notifying.compareAndSet(false, true)) {
+            try {
+                for (Runnable notification; (notification = notifications.poll()) != null; ) {
+                    try {
+                        notification.run();
+                    }
+                    catch (RuntimeException e) {
+                        final Thread thread = Thread.currentThread();
+
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    }
+                }
+            }
+            finally {
+                notifying.set(false);
+            }
+        }
+    }
+
+    /**
+     * Flush the log to disk, unless record was already flushed by another writer.
+     * @param seq Sequence number of the record.
+     * @throws IOException If failed.
+     */
+    private void sync(long seq) throws IOException {
+        if (synced >= seq)
+            return;
+
+        synchronized (syncMux) {
+            if (synced >= seq)
+                return;
+
+            // Every record up to this one is already in the channel and is flushed by the same call.
+            final long target = written;
+
+            force(dir.resolve(LOG_FILE_NAME), log, false);
+
+            synced = target;
+        }
+    }
+
+    /**
+     * Write all values to a new snapshot and truncate the log. Must be called under {@link #writeMux}.
+     * @throws IOException If failed.
+     */
+    private void compact() throws IOException {
+        final Path snapshot = dir.resolve(SNAPSHOT_FILE_NAME);
+        final Path tmp = dir.resolve(SNAPSHOT_FILE_NAME + ".tmp");
+
+        SnapshotFile.write(tmp, revision, collect(""));
+
+        Files.move(tmp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // The log can only be truncated once the new directory entry of the snapshot is on disk.
+        syncDirectory();
+
+        this.snapshot = SnapshotFile.open(snapshot);
+
+        values.clear();
+
+        // Records left in the log if the node stops right now are skipped on start, they are older than the snapshot.
+        log.truncate(0);
+        force(dir.resolve(LOG_FILE_NAME), log, true);
+
+        history.clear();
+
+        snapshotRevision = revision;
+
+        synchronized (syncMux) {
+            synced = written;
+        }
+    }
+
+    /**
+     * Flush entries of the storage directory to disk. Directories can't be opened on some platforms, renames are
+     * durable there without it.
+     * @throws IOException If failed.
+     */
+    private void syncDirectory() throws IOException {
+        final FileChannel ch;
+
+        try {
+            ch = FileChannel.open(dir, StandardOpenOption.READ);
+        }
+        catch (AccessDeniedException ignored) {
+            return;
+        }
+
+        try (ch) {
+            force(dir, ch, true);
+        }
+    }
+
+    /**
+     * Flush file or directory to disk. Tests override it to check the order of flushes.
+     * @param path Path of the file or directory.
+     * @param ch Channel of the file or directory.
+     * @param metaData Whether metadata is flushed as well.
+     * @throws IOException If failed.
+     */
+    void force(Path path, FileChannel ch, boolean metaData) throws IOException {
+        ch.force(metaData);
+    }
+
+    /**
+     * Encode write into a record: payload length, payload checksum and payload. Payload is the revision followed by
+     * values encoded with {@link ValueCodec}.
+     * @param evt Write.
+     * @return Record bytes.
+     * @throws StorageException If failed to encode values.
+     */
+    private static byte[] record(StorageEvent evt) throws StorageException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try {
+            final DataOutputStream out = new DataOutputStream(bytes);
+
+            out.write(new byte[HEADER_SIZE]);
+            out.writeLong(evt.revision());
+            out.writeInt(evt.values().size());
+
+            for (Map.Entry<String, Serializable> entry : evt.values().entrySet()) {
+                ValueCodec.writeString(out, entry.getKey());
+                ValueCodec.write(out, entry.getValue());
+            }
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to encode configuration values", e);
+        }
+
+        final byte[] record = bytes.toByteArray();
+
+        final CRC32 crc = new CRC32();
+
+        crc.update(record, HEADER_SIZE, record.length - HEADER_SIZE);
+
+        ByteBuffer.wrap(record).putInt(record.length - HEADER_SIZE).putInt((int) crc.getValue());
+
+        return record;
+    }
+
+    /**
+     * Read a record.
+     * @param in Input.
+     * @param maxLen Maximum payload length, longer records are treated as corrupted.
+     * @return Write or {@code null} if there are no more complete records.
+     * @throws IOException If failed.
+     */
+    private static StorageEvent readRecord(DataInputStream in, long maxLen) throws IOException {
+        final byte[] payload;
+        final int checksum;
+
+        try {
+            final int len = in.readInt();
+
+            checksum = in.readInt();
+
+            if (len < 0 || len > maxLen)
+                return null;
+
+            payload = new byte[len];
+
+            in.readFully(payload);
+        }
+        catch (EOFException e) {
+            return null;
+        }
+
+        final CRC32 crc = new CRC32();
+
+        crc.update(payload);
+
+        if ((int) crc.getValue() != checksum)
+            return null;
+
+        final ByteBuffer buf = ByteBuffer.wrap(payload);
+
+        final long rev = buf.getLong();
+
+        final int cnt = buf.getInt();
+
+        final Map<String, Serializable> values = new HashMap<>(cnt * 4 / 3 + 1);
+
+        for (int i = 0; i < cnt; i++)
+            values.put(ValueCodec.readString(buf), ValueCodec.read(buf));
+
+        return new StorageEvent(rev, values);
+    }
+
+    /**
+     * Watch of a subtree.
+     */
+    private class Watch {
+        /** Fully qualified name of the subtree. */
+        private final String prefix;
+
+        /** Consumer of the events. */
+        private final Consumer<StorageEvent> consumer;
+
+        /**
+         * Constructor.
+         * @param prefix Fully qualified name of the subtree.
+         * @param consumer Consumer of the events.
+         */
+        private Watch(String prefix, Consumer<StorageEvent> consumer) {
+            this.prefix = prefix;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Enqueue notification about the write if it changed the subtree. Must be called under {@link #writeMux}.
+         * @param evt Write.
+         */
+        private void offer(StorageEvent evt) {
+            Map<String, Serializable> filtered = null;
+
+            for (Map.Entry<String, Serializable> entry : evt.values().entrySet()) {
+                if (StorageEvent.matches(entry.getKey(), prefix)) {
+                    if (filtered == null)
+                        filtered = new HashMap<>();
+
+                    filtered.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            if (filtered != null) {
+                final StorageEvent filteredEvt = new StorageEvent(evt.revision(), filtered);
+
+                notifications.add(() -> consumer.accept(filteredEvt));
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Memory-mapped binary snapshot of configuration values. Opening a snapshot only maps the file, values are decoded
+ * on access, so the cost of opening doesn't depend on the number of values.
+ * <p>
+ * File layout: magic, revision, number of entries, table of entry offsets and entries sorted by key. Every entry is
+ * a key followed by a value encoded with {@link ValueCodec}.
+ */
+final class SnapshotFile {
+    /** File signature. */
+    private static final int MAGIC = 0x49434653;
+
+    /** Size of the header: magic, revision and number of entries. */
+    private static final int HEADER_SIZE = 16;
+
+    /** Mapped file. */
+    private final ByteBuffer buf;
+
+    /** Revision of the storage. */
+    private final long revision;
+
+    /** Number of entries. */
+    private final int size;
+
+    /**
+     * Constructor.
+     * @param buf Mapped file.
+     */
+    private SnapshotFile(ByteBuffer buf) {
+        this.buf = buf;
+
+        if (buf.limit() < HEADER_SIZE || buf.getInt(0) != MAGIC)
+            throw new StorageException("Configuration snapshot is corrupted");
+
+        revision = buf.getLong(4);
+        size = buf.getInt(12);
+
+        if (size < 0 || HEADER_SIZE + (long)size * 4 > buf.limit())
+            throw new StorageException("Configuration snapshot is corrupted");
+    }
+
+    /**
+     * Map snapshot file.
+     * @param path File path.
+     * @return Snapshot.
+     * @throws IOException If failed.
+     */
+    static SnapshotFile open(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+
+            return new SnapshotFile(buf);
+        }
+    }
+
+    /**
+     * Write snapshot file and flush it to disk.
+     * @param path File path.
+     * @param revision Revision of the storage.
+     * @param values Values sorted by key.
+     * @throws IOException If failed.
+     */
+    static void write(Path path, long revision, SortedMap<String, Serializable> values) throws IOException {
+        final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+
+        final DataOutputStream entriesOut = new DataOutputStream(entries);
+
+        final int[] offsets = new int[values.size()];
+
+        final int entriesPos = HEADER_SIZE + offsets.length * 4;
+
+        int idx = 0;
+
+        for (Map.Entry<String, Serializable> entry : values.entrySet()) {
+            offsets[idx++] = entriesPos + entriesOut.size();
+
+            ValueCodec.writeString(entriesOut, entry.getKey());
+            ValueCodec.write(entriesOut, entry.getValue());
+        }
+
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch)));
+
+            out.writeInt(MAGIC);
+            out.writeLong(revision);
+            out.writeInt(offsets.length);
+
+            for (int offset : offsets)
+                out.writeInt(offset);
+
+            entries.writeTo(out);
+
+            out.flush();
+
+            ch.force(true);
+        }
+    }
+
+    /**
+     * Get revision of the storage at the moment of the snapshot.
+     * @return Revision.
+     */
+    long revision() {
+        return revision;
+    }
+
+    /**
+     * Get number of values.
+     * @return Number of values.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get value.
+     * @param key Fully qualified property name.
+     * @return Value or {@code null} if snapshot has no such value.
+     */
+    Serializable get(String key) {
+        final int idx = lowerBound(key);
+
+        if (idx < size && key.equals(keyAt(idx)))
+            return ValueCodec.read(valueBuffer(idx));
+
+        return null;
+    }
+
+    /**
+     * Visit values of the subtree.
+     * @param prefix Fully qualified name of the subtree.
+     * @param consumer Consumer of keys and values.
+     */
+    void forEach(String prefix, BiConsumer<String, Serializable> consumer) {
+        // Keys of the subtree make a contiguous range, since they all start with the prefix.
+        for (int idx = lowerBound(prefix); idx < size; idx++) {
+            final String key = keyAt(idx);
+
+            if (!key.startsWith(prefix))
+                break;
+
+            if (StorageEvent.matches(key, prefix))
+                consumer.accept(key, ValueCodec.read(valueBuffer(idx)));
+        }
+    }
+
+    /**
+     * Find the first entry with key that is not less than the given one.
+     * @param key Key.
+     * @return Entry index.
+     */
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = size;
+
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+
+            if (keyAt(mid).compareTo(key) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+
+        return lo;
+    }
+
+    /**
+     * Get key of the entry.
+     * @param idx Entry index.
+     * @return Key.
+     */
+    private String keyAt(int idx) {
+        final ByteBuffer entry = buf.duplicate();
+
+        entry.position(buf.getInt(HEADER_SIZE + idx * 4));
+
+        return ValueCodec.readString(entry);
+    }
+
+    /**
+     * Get buffer positioned at the value of the entry.
+     * @param idx Entry index.
+     * @return Buffer.
+     */
+    private ByteBuffer valueBuffer(int idx) {
+        final ByteBuffer entry = buf.duplicate();
+
+        final int pos = buf.getInt(HEADER_SIZE + idx * 4);
+
+        entry.position(pos + 4 + buf.getInt(pos));
+
+        return entry;
+    }
+}
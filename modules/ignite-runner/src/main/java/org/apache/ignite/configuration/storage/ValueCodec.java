@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of keys and values of the storage files. Values are encoded by {@link CodecRegistry}, so the files
+ * share the one encoding of configuration values, this class only reads them from memory-mapped buffers.
+ */
+final class ValueCodec {
+    /** */
+    private ValueCodec() {
+        // No-op.
+    }
+
+    /**
+     * Write string as length and UTF-8 bytes.
+     * @param out Output.
+     * @param str String.
+     * @throws IOException If failed.
+     */
+    static void writeString(DataOutputStream out, String str) throws IOException {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read string written by {@link #writeString}.
+     * @param buf Buffer positioned at the string.
+     * @return String.
+     */
+    static String readString(ByteBuffer buf) {
+        final byte[] bytes = new byte[buf.getInt()];
+
+        buf.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write value.
+     * @param out Output.
+     * @param val Value.
+     * @throws IOException If failed or if value has a type that can't be encoded.
+     */
+    static void write(DataOutputStream out, Serializable val) throws IOException {
+        CodecRegistry.writeValue(out, val);
+    }
+
+    /**
+     * Read value written by {@link #write}. Buffer is left positioned right after the value.
+     * @param buf Buffer positioned at the value.
+     * @return Value.
+     * @throws StorageException If value can't be read.
+     */
+    static Serializable read(ByteBuffer buf) throws StorageException {
+        try {
+            return (Serializable) CodecRegistry.readValue(new DataInputStream(new BufferInputStream(buf)));
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to read configuration value", e);
+        }
+    }
+
+    /**
+     * Input stream that reads a buffer without reading ahead, so the buffer position follows the decoder.
+     */
+    private static final class BufferInputStream extends InputStream {
+        /** Buffer. */
+        private final ByteBuffer buf;
+
+        /**
+         * Constructor.
+         * @param buf Buffer.
+         */
+        private BufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+
+            if (!buf.hasRemaining())
+                return -1;
+
+            final int cnt = Math.min(len, buf.remaining());
+
+            buf.get(b, off, cnt);
+
+            return cnt;
+        }
+    }
+}
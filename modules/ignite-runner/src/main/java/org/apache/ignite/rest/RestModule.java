@@ -114,7 +114,7 @@ public class RestModule {
 
         app.get(CONF_URL + ":" + PATH_PARAM, ctx -> {
             try {
-                Object subTree = configurator.getPublic(Selectors.find(ctx.pathParam(PATH_PARAM)));
+                Object subTree = configurator.getPublic(configurator.find(ctx.pathParam(PATH_PARAM)));
 
                 String res = converter.convertTo(subTree);
 
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.configuration.presentation.json;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.google.gson.JsonSyntaxException;
+import org.apache.ignite.configuration.internal.NamedList;
+import org.apache.ignite.configuration.presentation.PresentationCodecRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test JSON conversion of VIEW, INIT and CHANGE objects by their generated presentation codecs.
+ */
+public class JsonConverterTest {
+    /** Converter. */
+    private final JsonConverter converter = new JsonConverter();
+
+    /**
+     * Test that view is written with named lists as objects with an element per name and read back.
+     */
+    @Test
+    public void testViewRoundTrip() {
+        final Map<String, Node> nodes = new LinkedHashMap<>();
+
+        nodes.put("node1", new Node("host1", 1000));
+        nodes.put("node2", new Node("host2", null));
+
+        final Root view = new Root("test", 5L, new Nested(true), new NamedList<>(nodes));
+
+        final String json = converter.convertTo("root", view);
+
+        Assertions.assertEquals(
+            "{\"root\":{\"name\":\"test\",\"timeout\":5,\"nested\":{\"enabled\":true}," +
+                "\"nodes\":{\"node1\":{\"host\":\"host1\",\"port\":1000},\"node2\":{\"host\":\"host2\"}}}}",
+            json
+        );
+
+        Assertions.assertEquals(view, converter.convertFrom(json, "root", Root.class));
+    }
+
+    /**
+     * Test that init object is read back with absent fields left unset.
+     */
+    @Test
+    public void testInitRoundTrip() {
+        final InitRoot init = new InitRoot()
+            .withTimeout(7L)
+            .withNodes(new NamedList<>(Map.of("node1", new InitNode().withHost("host1").withPort(1000))));
+
+        final String json = converter.convertTo("root", init);
+
+        Assertions.assertEquals("{\"root\":{\"timeout\":7,\"nodes\":{\"node1\":{\"host\":\"host1\",\"port\":1000}}}}", json);
+
+        final InitRoot res = converter.convertFrom(json, "root", InitRoot.class);
+
+        Assertions.assertEquals(7L, res.timeout());
+        Assertions.assertNull(res.name());
+        Assertions.assertNull(res.nested());
+
+        final InitNode node = res.nodes().getValues().get("node1");
+
+        Assertions.assertEquals("host1", node.host());
+        Assertions.assertEquals(1000, node.port());
+    }
+
+    /**
+     * Test that change object is read back, absent fields stay unset and removed named configurations stay mapped to
+     * {@code null}.
+     */
+    @Test
+    public void testChangeRoundTrip() {
+        final Map<String, ChangeNode> nodes = new LinkedHashMap<>();
+
+        nodes.put("node1", new ChangeNode().withPort(1001));
+        nodes.put("node2", null);
+
+        final ChangeRoot change = new ChangeRoot().withNested(new ChangeNested().withEnabled(false)).withNodes(new NamedList<>(nodes));
+
+        final String json = converter.convertTo("root", change);
+
+        Assertions.assertEquals("{\"root\":{\"nested\":{\"enabled\":false},\"nodes\":{\"node1\":{\"port\":1001},\"node2\":null}}}", json);
+
+        final ChangeRoot res = converter.convertFrom(json, "root", ChangeRoot.class);
+
+        Assertions.assertEquals(change, res);
+        Assertions.assertNull(res.name());
+        Assertions.assertNull(res.timeout());
+        Assertions.assertTrue(res.nodes().getValues().containsKey("node2"));
+        Assertions.assertNull(res.nodes().getValues().get("node2"));
+    }
+
+    /**
+     * Test that unknown fields, including nested objects and arrays, and siblings of the root are skipped.
+     */
+    @Test
+    public void testUnknownFields() {
+        final String json = "{\"other\":{\"timeout\":1},\"root\":{\"unknown\":{\"a\":[1,{\"b\":2}]},\"timeout\":3," +
+            "\"nodes\":{\"node1\":{\"port\":4,\"extra\":\"x\"}},\"tail\":[]},\"more\":true}";
+
+        final ChangeRoot res = converter.convertFrom(json, "root", ChangeRoot.class);
+
+        Assertions.assertEquals(3L, res.timeout());
+        Assertions.assertEquals(4, res.nodes().getValues().get("node1").port());
+        Assertions.assertEquals(1, res.nodes().getValues().size());
+    }
+
+    /**
+     * Test that absent root and explicit nulls are read as {@code null}.
+     */
+    @Test
+    public void testAbsentFields() {
+        Assertions.assertNull(converter.convertFrom("{\"other\":{}}", "root", ChangeRoot.class));
+        Assertions.assertNull(converter.convertFrom("{\"root\":null}", "root", ChangeRoot.class));
+
+        final ChangeRoot res = converter.convertFrom("{\"root\":{\"name\":null,\"nodes\":null}}", "root", ChangeRoot.class);
+
+        Assertions.assertEquals(new ChangeRoot(), res);
+    }
+
+    /**
+     * Test that named lists in the {@code {"values": {...}}} shape produced by reflective serialization are not
+     * recognized: {@code values} is read as the name of a named configuration whose fields are all unknown.
+     */
+    @Test
+    public void testLegacyNamedListShape() {
+        final ChangeRoot res = converter.convertFrom(
+            "{\"root\":{\"nodes\":{\"values\":{\"node1\":{\"port\":1}}}}}",
+            "root",
+            ChangeRoot.class
+        );
+
+        Assertions.assertEquals(Map.of("values", new ChangeNode()), res.nodes().getValues());
+    }
+
+    /**
+     * Test that malformed input and values of wrong types are reported as {@link JsonSyntaxException}.
+     */
+    @Test
+    public void testMalformed() {
+        final String[] inputs = {
+            "{\"root\":{\"timeout\":",
+            "{\"root\":{\"timeout\":1,}}",
+            "{\"root\":{\"timeout\":\"abc\"}}",
+            "{\"root\":{\"nodes\":[]}}",
+            "{\"root\":{\"nested\":{\"enabled\":1}}}",
+            "[]"
+        };
+
+        for (String input : inputs)
+            Assertions.assertThrows(JsonSyntaxException.class, () -> converter.convertFrom(input, "root", ChangeRoot.class), input);
+    }
+
+    /**
+     * Test that values of classes without generated codecs are converted by Gson, and that such classes are
+     * remembered as having no codec.
+     */
+    @Test
+    public void testNoCodec() {
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertNull(PresentationCodecRegistry.codec(String.class));
+
+            Assertions.assertEquals("{\"root\":\"a\"}", converter.convertTo("root", "a"));
+            Assertions.assertEquals("a", converter.convertFrom("{\"root\":\"a\"}", "root", String.class));
+        }
+
+        Assertions.assertNotNull(PresentationCodecRegistry.codec(Root.class));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.apache.ignite.configuration.Configurator;
+import org.apache.ignite.configuration.extended.LocalConfigurationImpl;
+import org.apache.ignite.configuration.presentation.json.RootConfigurationImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test of concurrent changes of configurators that share a file configuration storage.
+ */
+public class ConcurrentChangeTest {
+    /** Number of changes made by every writer. */
+    private static final int CHANGES = 300;
+
+    /** Directory of the storage. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Test that configurators sharing a storage apply writes of each other, including writes delivered by their own
+     * writer threads, and never get stuck on a stale storage revision. Two configurators of the same root change
+     * different properties, the third one has another root.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSharedStorage() throws Exception {
+        // Small threshold, so writes are compacted while watchers are behind.
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir, 64)) {
+            final Configurator<LocalConfigurationImpl> local1 = Configurator.create(storage, LocalConfigurationImpl::new);
+            final Configurator<LocalConfigurationImpl> local2 = Configurator.create(storage, LocalConfigurationImpl::new);
+            final Configurator<RootConfigurationImpl> other = Configurator.create(storage, RootConfigurationImpl::new);
+
+            final CountDownLatch start = new CountDownLatch(1);
+
+            final List<Runnable> changes = List.of(
+                () -> {
+                    for (int i = 1; i <= CHANGES; i++)
+                        local1.set(org.apache.ignite.configuration.extended.Selectors.LOCAL_REST_PORT, i);
+                },
+                () -> {
+                    for (int i = 1; i <= CHANGES; i++)
+                        local2.set(org.apache.ignite.configuration.extended.Selectors.LOCAL_DATA_STORAGE_PAGE_SIZE, i);
+                },
+                () -> {
+                    for (long i = 1; i <= CHANGES; i++)
+                        other.set(org.apache.ignite.configuration.presentation.json.Selectors.ROOT_TIMEOUT, i);
+                }
+            );
+
+            final List<Thread> writers = new ArrayList<>();
+
+            final List<Throwable> errors = new ArrayList<>();
+
+            for (Runnable change : changes) {
+                final Thread writer = new Thread(() -> {
+                    try {
+                        start.await();
+
+                        change.run();
+                    }
+                    catch (Throwable e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                });
+
+                writer.setDaemon(true);
+
+                writer.start();
+
+                writers.add(writer);
+            }
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                start.countDown();
+
+                for (Thread writer : writers)
+                    writer.join();
+            });
+
+            Assertions.assertEquals(List.of(), errors);
+
+            Assertions.assertEquals(3 * CHANGES, storage.revision());
+
+            for (Configurator<LocalConfigurationImpl> local : List.of(local1, local2)) {
+                Assertions.assertEquals(CHANGES, local.getRoot().rest().port().intValue());
+                Assertions.assertEquals(CHANGES, local.getRoot().dataStorage().pageSize().intValue());
+            }
+
+            Assertions.assertEquals(CHANGES, other.getRoot().timeout().longValue());
+
+            // Configurators that missed a write would have their conditional writes rejected forever.
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                local1.set(org.apache.ignite.configuration.extended.Selectors.LOCAL_REST_PORT_RANGE, 1);
+                local2.set(org.apache.ignite.configuration.extended.Selectors.LOCAL_REST_PORT_RANGE, 2);
+                other.set(org.apache.ignite.configuration.presentation.json.Selectors.ROOT_NAME, "other");
+            });
+
+            Assertions.assertEquals(3 * CHANGES + 3, storage.revision());
+            Assertions.assertEquals(2, local1.getRoot().rest().portRange().intValue());
+        }
+    }
+}
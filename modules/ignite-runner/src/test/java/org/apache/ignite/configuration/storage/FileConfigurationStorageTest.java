@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test durability of the file configuration storage.
+ */
+public class FileConfigurationStorageTest {
+    /** Property name. */
+    private static final String KEY = "local.baseline.autoAdjust.timeout";
+
+    /** Directory of the storage. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Test that a torn record at the end of the log is discarded on restart and the log stays appendable.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTornRecord() throws Exception {
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir)) {
+            for (long i = 1; i <= 3; i++)
+                storage.save(KEY + i, i);
+        }
+
+        final Path log = dir.resolve("config.log");
+
+        // Last record was only partially written when the node stopped.
+        try (FileChannel ch = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            ch.truncate(ch.size() - 3);
+        }
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir)) {
+            Assertions.assertEquals(2, storage.revision());
+            Assertions.assertEquals(1L, (Long) storage.get(KEY + 1));
+            Assertions.assertEquals(2L, (Long) storage.get(KEY + 2));
+            Assertions.assertNull(storage.get(KEY + 3));
+
+            storage.save(KEY + 3, 30L);
+        }
+
+        // Record with a broken checksum is discarded as well.
+        final byte[] bytes = Files.readAllBytes(log);
+
+        bytes[bytes.length - 1] ^= 1;
+
+        Files.write(log, bytes);
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir)) {
+            Assertions.assertEquals(2, storage.revision());
+            Assertions.assertNull(storage.get(KEY + 3));
+
+            storage.save(KEY + 3, 31L);
+        }
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir)) {
+            Assertions.assertEquals(3, storage.revision());
+            Assertions.assertEquals(31L, (Long) storage.get(KEY + 3));
+        }
+    }
+
+    /**
+     * Test that values, removals and revision survive restart after compaction, including a stop right before the log
+     * was truncated.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRestartAfterCompaction() throws Exception {
+        final Path log = dir.resolve("config.log");
+
+        byte[] uncompactedLog = null;
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir, 4)) {
+            for (long i = 1; i <= 10; i++) {
+                if (i == 8)
+                    uncompactedLog = Files.readAllBytes(log);
+
+                storage.save(KEY + i, i);
+            }
+
+            storage.save(KEY + 1, null);
+        }
+
+        Assertions.assertTrue(Files.exists(dir.resolve("config.snapshot")));
+
+        final Map<String, Serializable> expected = new HashMap<>();
+
+        for (long i = 2; i <= 10; i++)
+            expected.put(KEY + i, i);
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir, 4)) {
+            Assertions.assertEquals(11, storage.revision());
+            Assertions.assertNull(storage.get(KEY + 1));
+            Assertions.assertEquals(expected, new HashMap<>(storage.getAll("local")));
+
+            // Watcher that is behind the snapshot catches up with the current values.
+            final List<StorageEvent> events = new ArrayList<>();
+
+            storage.watch("local", 0, events::add);
+
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals(11, events.get(0).revision());
+            Assertions.assertEquals(expected, events.get(0).values());
+        }
+
+        // Node stopped after the snapshot of revision 8 was moved, but before the log was truncated. Log records are
+        // older than the snapshot and are skipped.
+        Files.write(log, uncompactedLog);
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir, 4)) {
+            Assertions.assertEquals(8, storage.revision());
+            Assertions.assertEquals(8, storage.getAll("local").size());
+            Assertions.assertEquals(1L, (Long) storage.get(KEY + 1));
+            Assertions.assertEquals(8L, (Long) storage.get(KEY + 8));
+            Assertions.assertNull(storage.get(KEY + 9));
+        }
+    }
+
+    /**
+     * Test that directory is flushed after the snapshot is moved into it and before the log is truncated.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompactionFlushesDirectory() throws Exception {
+        final List<Path> flushed = new ArrayList<>();
+
+        final List<Long> logSizes = new ArrayList<>();
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir, 2) {
+            @Override void force(Path path, FileChannel ch, boolean metaData) throws IOException {
+                flushed.add(path);
+                logSizes.add(Files.size(dir.resolve("config.log")));
+
+                super.force(path, ch, metaData);
+            }
+        }) {
+            storage.save(KEY, 1L);
+
+            Assertions.assertEquals(Collections.singletonList(dir.resolve("config.log")), flushed);
+
+            flushed.clear();
+            logSizes.clear();
+
+            storage.save(KEY, 2L);
+        }
+
+        final int dirIdx = flushed.indexOf(dir);
+
+        Assertions.assertTrue(dirIdx >= 0, flushed.toString());
+
+        // Log still has its records when the directory is flushed.
+        Assertions.assertTrue(logSizes.get(dirIdx) > 0);
+        Assertions.assertEquals(dir.resolve("config.log"), flushed.get(dirIdx + 1));
+        Assertions.assertEquals(0, (long) logSizes.get(dirIdx + 1));
+    }
+
+    /**
+     * Test that write returns only after its record is flushed to disk.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSaveReturnsAfterFlush() throws Exception {
+        final CountDownLatch flushStarted = new CountDownLatch(1);
+
+        final CountDownLatch flushAllowed = new CountDownLatch(1);
+
+        final AtomicBoolean flushed = new AtomicBoolean();
+
+        try (FileConfigurationStorage storage = new FileConfigurationStorage(dir) {
+            @Override void force(Path path, FileChannel ch, boolean metaData) throws IOException {
+                flushStarted.countDown();
+
+                try {
+                    flushAllowed.await();
+                }
+                catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                super.force(path, ch, metaData);
+
+                flushed.set(true);
+            }
+        }) {
+            final AtomicBoolean saved = new AtomicBoolean();
+
+            final Thread writer = new Thread(() -> {
+                Assertions.assertTrue(storage.saveAll(Collections.singletonMap(KEY, 1L), 0));
+
+                saved.set(flushed.get());
+            });
+
+            writer.start();
+
+            Assertions.assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+
+            // Value is visible, but the write hasn't returned while the flush is blocked.
+            Assertions.assertEquals(1L, (Long) storage.get(KEY));
+
+            writer.join(100);
+
+            Assertions.assertTrue(writer.isAlive());
+
+            flushAllowed.countDown();
+
+            writer.join();
+
+            Assertions.assertTrue(saved.get());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration.storage;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test memory-mapped configuration snapshot.
+ */
+public class SnapshotFileTest {
+    /** Directory for the files of the test. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Test that header and offset table are written as described by the file layout.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLayout() throws Exception {
+        final Path path = dir.resolve("snapshot");
+
+        final SortedMap<String, Serializable> values = new TreeMap<>();
+
+        values.put("b", 2L);
+        values.put("a", 1);
+        values.put("c", "three");
+
+        SnapshotFile.write(path, 42, values);
+
+        final ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(path));
+
+        Assertions.assertEquals(0x49434653, buf.getInt(0));
+        Assertions.assertEquals(42L, buf.getLong(4));
+        Assertions.assertEquals(3, buf.getInt(12));
+
+        // Entries start right after the offset table and follow each other in key order.
+        int prev = 0;
+
+        final List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            final int offset = buf.getInt(16 + i * 4);
+
+            Assertions.assertTrue(offset > prev);
+
+            if (i == 0)
+                Assertions.assertEquals(16 + 3 * 4, offset);
+
+            final ByteBuffer entry = buf.duplicate();
+
+            entry.position(offset);
+
+            keys.add(ValueCodec.readString(entry));
+
+            prev = offset;
+        }
+
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), keys);
+
+        final SnapshotFile snapshot = SnapshotFile.open(path);
+
+        Assertions.assertEquals(42L, snapshot.revision());
+        Assertions.assertEquals(3, snapshot.size());
+    }
+
+    /**
+     * Test binary search of present and absent keys, including keys before the first and after the last entry.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGet() throws Exception {
+        final Path path = dir.resolve("snapshot");
+
+        final SortedMap<String, Serializable> values = new TreeMap<>();
+
+        for (int i = 0; i < 1000; i += 2)
+            values.put(String.format("key%04d", i), i);
+
+        SnapshotFile.write(path, 1, values);
+
+        final SnapshotFile snapshot = SnapshotFile.open(path);
+
+        for (int i = 0; i < 1000; i++) {
+            final Serializable val = snapshot.get(String.format("key%04d", i));
+
+            if (i % 2 == 0)
+                Assertions.assertEquals(i, val);
+            else
+                Assertions.assertNull(val);
+        }
+
+        Assertions.assertNull(snapshot.get(""));
+        Assertions.assertNull(snapshot.get("a"));
+        Assertions.assertNull(snapshot.get("key"));
+        Assertions.assertNull(snapshot.get("z"));
+
+        SnapshotFile.write(path, 2, new TreeMap<>());
+
+        final SnapshotFile empty = SnapshotFile.open(path);
+
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertNull(empty.get("key0000"));
+    }
+
+    /**
+     * Test that only values of the subtree are visited.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testForEach() throws Exception {
+        final Path path = dir.resolve("snapshot");
+
+        final SortedMap<String, Serializable> values = new TreeMap<>();
+
+        values.put("local.baseline", 1);
+        values.put("local.baseline.nodes[a].port", 2);
+        values.put("local.baseline.timeout", 3);
+        values.put("local.baselineX", 4);
+        values.put("local.a", 5);
+
+        SnapshotFile.write(path, 1, values);
+
+        final SortedMap<String, Serializable> visited = new TreeMap<>();
+
+        SnapshotFile.open(path).forEach("local.baseline", visited::put);
+
+        final SortedMap<String, Serializable> expected = new TreeMap<>(values);
+
+        expected.remove("local.baselineX");
+        expected.remove("local.a");
+
+        Assertions.assertEquals(expected, visited);
+
+        visited.clear();
+
+        SnapshotFile.open(path).forEach("local.baseline.nodes", visited::put);
+
+        Assertions.assertEquals(Collections.singletonMap("local.baseline.nodes[a].port", 2), visited);
+    }
+
+    /**
+     * Test that values are read through the mapping, which stays valid after the file is unlinked.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadThroughMapping() throws Exception {
+        final Path path = dir.resolve("snapshot");
+
+        final SortedMap<String, Serializable> values = new TreeMap<>();
+
+        for (int i = 0; i < 10_000; i++)
+            values.put("local.baseline.nodes[node" + i + "].port", i);
+
+        SnapshotFile.write(path, 1, values);
+
+        final SnapshotFile snapshot = SnapshotFile.open(path);
+
+        Files.delete(path);
+
+        Assertions.assertEquals(10_000, snapshot.size());
+        Assertions.assertEquals(4242, snapshot.get("local.baseline.nodes[node4242].port"));
+
+        final SortedMap<String, Serializable> visited = new TreeMap<>();
+
+        snapshot.forEach("local.baseline.nodes", visited::put);
+
+        Assertions.assertEquals(values, visited);
+    }
+
+    /**
+     * Test that corrupted snapshot is rejected.
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCorrupted() throws Exception {
+        final Path path = dir.resolve("snapshot");
+
+        Files.write(path, new byte[8]);
+
+        Assertions.assertThrows(StorageException.class, () -> SnapshotFile.open(path));
+
+        SnapshotFile.write(path, 1, new TreeMap<>(Collections.singletonMap("a", 1)));
+
+        final byte[] bytes = Files.readAllBytes(path);
+
+        // Number of entries that doesn't fit the file.
+        ByteBuffer.wrap(bytes).putInt(12, 1000);
+
+        Files.write(path, bytes);
+
+        Assertions.assertThrows(StorageException.class, () -> SnapshotFile.open(path));
+    }
+}